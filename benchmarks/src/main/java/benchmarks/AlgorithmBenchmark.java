@@ -0,0 +1,63 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solver.TransportationProblem;
+import structures.Plan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of every algorithm on small and medium instances.
+ * The original Vogel's and Russel's methods rescan the whole matrix on every step,
+ * so the sizes here are kept within their reach; see {@link ScalingBenchmark} for large instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlgorithmBenchmark {
+    @Param({"NorthWest", "Vogel", "Russel", "ParallelVogel", "ParallelRussel", "IncrementalVogel", "IncrementalRussel", "LeastCost", "ModiFromNorthWest", "ModiFromVogel"})
+    public String algorithm;
+
+    @Param({"3x4", "25x40", "100x100"})
+    public String size;
+
+    @Param({"DENSE", "SPARSE", "DEGENERATE"})
+    public Instances.Shape shape;
+
+    @Param("42")
+    public long seed;
+
+    private TransportationProblem problem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        Instances instance = Instances.generate(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), shape, seed);
+
+        problem = new TransportationProblem.Builder()
+                .setVectorSupply(instance.supply)
+                .setVectorDemand(instance.demand)
+                .setMatrixCosts(instance.costs)
+                .algorithm(Algorithms.create(algorithm))
+                .build();
+    }
+
+    @Benchmark
+    public Plan solve() {
+        return problem.solve();
+    }
+}
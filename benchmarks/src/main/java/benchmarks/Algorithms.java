@@ -0,0 +1,47 @@
+package benchmarks;
+
+import solver.Algorithm;
+import solver.IncrementalRusselAlgorithm;
+import solver.IncrementalVogelAlgorithm;
+import solver.LeastCostAlgorithm;
+import solver.ModiAlgorithm;
+import solver.NorthWest;
+import solver.RusselAlgorithm;
+import solver.VogelAlgorithm;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Names of the benchmarked algorithms, used as JMH parameters
+ */
+final class Algorithms {
+    private Algorithms() {
+    }
+
+    static Algorithm create(String name) {
+        switch (name) {
+            case "NorthWest":
+                return new NorthWest();
+            case "Vogel":
+                return new VogelAlgorithm();
+            case "Russel":
+                return new RusselAlgorithm();
+            case "ParallelVogel":
+                return new VogelAlgorithm(ForkJoinPool.commonPool());
+            case "ParallelRussel":
+                return new RusselAlgorithm(ForkJoinPool.commonPool());
+            case "IncrementalVogel":
+                return new IncrementalVogelAlgorithm();
+            case "IncrementalRussel":
+                return new IncrementalRusselAlgorithm();
+            case "LeastCost":
+                return new LeastCostAlgorithm();
+            case "ModiFromNorthWest":
+                return new ModiAlgorithm(new NorthWest());
+            case "ModiFromVogel":
+                return new ModiAlgorithm(new IncrementalVogelAlgorithm());
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + name);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.MatrixFactory;
+import structures.VectorFactory;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of balanced benchmark instances, the same seed always gives the same instance
+ */
+public final class Instances {
+    static final int maxCost = 100;
+    static final int prohibitiveCost = 1_000_000;
+
+    /**
+     * Shape of a generated instance
+     */
+    public enum Shape {
+        /** every lane has a uniform random cost */
+        DENSE,
+        /** about one lane in ten is usable, the rest have a prohibitive cost */
+        SPARSE,
+        /** equal supplies and demands, so allocations exhaust a row and a column at the same time */
+        DEGENERATE
+    }
+
+    final LongVector supply;
+    final LongVector demand;
+    final Matrix costs;
+
+    private Instances(LongVector supply, LongVector demand, Matrix costs) {
+        this.supply = supply;
+        this.demand = demand;
+        this.costs = costs;
+    }
+
+    /**
+     * Method for generating an instance
+     *
+     * @param rows is a number of sources
+     * @param cols is a number of destinations
+     * @param shape is a shape of the instance
+     * @param seed is a seed of the random generator
+     * @return a balanced instance
+     */
+    static Instances generate(int rows, int cols, Shape shape, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        LongVector supply = VectorFactory.createEmptyLongVector(rows);
+        LongVector demand = VectorFactory.createEmptyLongVector(cols);
+
+        if (shape == Shape.DEGENERATE) {
+            for (int i = 0; i < rows; i++)
+                supply.set(i, cols);
+            for (int j = 0; j < cols; j++)
+                demand.set(j, rows);
+        } else {
+            long total = 0;
+            for (int i = 0; i < rows; i++) {
+                supply.set(i, 1 + random.nextInt(1000));
+                total += supply.get(i);
+            }
+            // Spread the total supply over the destinations so the instance is balanced
+            long left = total;
+            for (int j = 0; j < cols - 1; j++) {
+                long share = Math.min(left, Math.max(0, total / cols + random.nextInt(21) - 10));
+                demand.set(j, share);
+                left -= share;
+            }
+            demand.set(cols - 1, left);
+        }
+
+        Matrix costs = MatrixFactory.createFlatMatrix(rows, cols);
+        for (int i = 0; i < rows; i++)
+            for (int j = 0; j < cols; j++) {
+                boolean usable = shape != Shape.SPARSE || random.nextInt(10) == 0
+                        || j == i % cols || i == j % rows;
+                costs.setItem(i, j, usable ? 1 + random.nextInt(maxCost) : prohibitiveCost);
+            }
+
+        return new Instances(supply, demand, costs);
+    }
+}
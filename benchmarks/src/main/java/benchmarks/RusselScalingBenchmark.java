@@ -0,0 +1,62 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solver.TransportationProblem;
+import structures.Plan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of incremental Russel's method. Every step scans all remaining cells, so a solve takes O((m + n) * m * n)
+ * and the sizes stop at 1000x1000, where a single solve already takes seconds; every iteration is one solve
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class RusselScalingBenchmark {
+    @Param("IncrementalRussel")
+    public String algorithm;
+
+    @Param({"250x250", "500x500", "1000x1000"})
+    public String size;
+
+    @Param({"DENSE", "SPARSE", "DEGENERATE"})
+    public Instances.Shape shape;
+
+    @Param("42")
+    public long seed;
+
+    private TransportationProblem problem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        Instances instance = Instances.generate(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), shape, seed);
+
+        problem = new TransportationProblem.Builder()
+                .setVectorSupply(instance.supply)
+                .setVectorDemand(instance.demand)
+                .setMatrixCosts(instance.costs)
+                .algorithm(Algorithms.create(algorithm))
+                .build();
+    }
+
+    @Benchmark
+    public Plan solve() {
+        return problem.solve();
+    }
+}
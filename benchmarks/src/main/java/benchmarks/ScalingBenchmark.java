@@ -0,0 +1,63 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solver.TransportationProblem;
+import structures.Plan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the algorithms that scale to large instances.
+ * Incremental Russel's method still scans all remaining cells on every step, so it is measured
+ * on smaller sizes by {@link RusselScalingBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ScalingBenchmark {
+    @Param({"NorthWest", "IncrementalVogel", "LeastCost"})
+    public String algorithm;
+
+    @Param({"500x500", "1000x2000", "5000x5000"})
+    public String size;
+
+    @Param({"DENSE", "SPARSE", "DEGENERATE"})
+    public Instances.Shape shape;
+
+    @Param("42")
+    public long seed;
+
+    private TransportationProblem problem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        Instances instance = Instances.generate(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), shape, seed);
+
+        problem = new TransportationProblem.Builder()
+                .setVectorSupply(instance.supply)
+                .setVectorDemand(instance.demand)
+                .setMatrixCosts(instance.costs)
+                .algorithm(Algorithms.create(algorithm))
+                .build();
+    }
+
+    @Benchmark
+    public Plan solve() {
+        return problem.solve();
+    }
+}
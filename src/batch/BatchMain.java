@@ -0,0 +1,61 @@
+package batch;
+
+import io.InputFormatException;
+import solver.Algorithm;
+import solver.IncrementalRusselAlgorithm;
+import solver.IncrementalVogelAlgorithm;
+import solver.LeastCostAlgorithm;
+import solver.ModiAlgorithm;
+import solver.NorthWest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Command line entry of the batch mode: problems are read from the standard input, results are written to the standard output.
+ * Usage: BatchMain [modi|vogel|russel|leastcost|northwest] [threads]
+ */
+public class BatchMain {
+    public static void main(String[] args) throws IOException {
+        String name = args.length > 0 ? args[0] : "modi";
+        Supplier<Algorithm> algorithm;
+        switch (name) {
+            case "modi":
+                algorithm = () -> new ModiAlgorithm(new IncrementalVogelAlgorithm());
+                break;
+            case "vogel":
+                algorithm = IncrementalVogelAlgorithm::new;
+                break;
+            case "russel":
+                algorithm = IncrementalRusselAlgorithm::new;
+                break;
+            case "leastcost":
+                algorithm = LeastCostAlgorithm::new;
+                break;
+            case "northwest":
+                algorithm = NorthWest::new;
+                break;
+            default:
+                System.err.println("Unknown algorithm: " + name);
+                return;
+        }
+
+        BatchSolver.Builder builder = new BatchSolver.Builder().algorithm(algorithm);
+        if (args.length > 1)
+            builder.threads(Integer.parseInt(args[1]));
+
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), 1 << 16);
+        try {
+            long records = builder.build().solve(Channels.newChannel(System.in), output);
+            System.err.println("Solved " + records + " problems");
+        } catch (InputFormatException ex) {
+            System.err.println("Wrong input! Problem at " + ex.getMessage());
+            System.exit(1);
+        }
+    }
+}
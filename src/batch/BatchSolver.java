@@ -0,0 +1,153 @@
+package batch;
+
+import io.InputParser;
+import solver.Algorithm;
+import solver.TransportationProblem;
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Class for solving a stream of problems on a pool of threads.
+ * Problems follow each other in the format read by Main. Results are written in input order as lines
+ * "record total-cost row:col:amount ...", or "record error message" if the problem could not be solved.
+ * At most 'window' problems are read ahead of the oldest unwritten result, so a slow writer
+ * or slow problems stop the reader instead of filling the memory
+ */
+public class BatchSolver {
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int window;
+    private Supplier<Algorithm> algorithm;
+
+    private BatchSolver() {
+    }
+
+    /**
+     * Class builder for setting the number of threads, the read-ahead window and the algorithm
+     */
+    public static class Builder {
+        private final BatchSolver solver = new BatchSolver();
+
+        public Builder threads(int threads) {
+            solver.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param window is a maximal number of problems read but not written yet, 4 per thread by default
+         */
+        public Builder window(int window) {
+            solver.window = window;
+            return this;
+        }
+
+        /**
+         * @param algorithm creates an algorithm for every problem, algorithms keep state and are not shared between threads
+         */
+        public Builder algorithm(Supplier<Algorithm> algorithm) {
+            solver.algorithm = algorithm;
+            return this;
+        }
+
+        public BatchSolver build() {
+            if (solver.algorithm == null)
+                throw new IllegalStateException("Algorithm not set.");
+            if (solver.threads <= 0)
+                throw new IllegalArgumentException("Number of threads must be positive.");
+            if (solver.window <= 0)
+                solver.window = solver.threads * 4;
+            return solver;
+        }
+    }
+
+    /**
+     * Method for solving all problems of the input
+     *
+     * @param input is a channel with problems following each other
+     * @param output is a writer for the results, it is not closed
+     * @return number of problems read
+     * @throws IOException if reading or writing fails
+     * @throws io.InputFormatException if a problem is malformed, the results before it are written
+     */
+    public long solve(ReadableByteChannel input, Writer output) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Deque<Future<String>> pending = new ArrayDeque<>();
+        InputParser parser = new InputParser(input);
+        long records = 0;
+
+        Throwable failure = null;
+        try {
+            while (parser.hasMore()) {
+                LongVector supply = parser.readLongVectorLine();
+                Matrix costs = parser.readMatrix(supply.getLength());
+                LongVector demand = parser.readLongVectorLine(costs.getNumberOfColumns());
+
+                if (pending.size() == window)
+                    output.write(await(pending.poll()));
+
+                long record = records++;
+                pending.add(pool.submit(() -> solveRecord(record, supply, demand, costs)));
+            }
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            // Results of the problems read so far are written even if a later problem is malformed
+            try {
+                while (!pending.isEmpty())
+                    output.write(await(pending.poll()));
+                output.flush();
+            } catch (IOException | RuntimeException ex) {
+                // A failure while draining does not hide the one that stopped the reading
+                if (failure == null) throw ex;
+                failure.addSuppressed(ex);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        return records;
+    }
+
+    private String solveRecord(long record, LongVector supply, LongVector demand, Matrix costs) {
+        StringBuilder line = new StringBuilder().append(record).append(' ');
+
+        try {
+            String error = TransportationProblem.findRestrictionError(supply, demand, false);
+            if (error != null)
+                return line.append("error ").append(error).append('\n').toString();
+
+            Plan plan = algorithm.get().solve(supply, demand, costs);
+            line.append(plan.getTotalCost(costs));
+            for (int k = 0; k < plan.getSize(); k++)
+                line.append(' ').append(plan.getRow(k)).append(':').append(plan.getColumn(k)).append(':').append(plan.getAmount(k));
+            return line.append('\n').toString();
+        } catch (RuntimeException ex) {
+            line.setLength(0);
+            return line.append(record).append(" error ").append(ex).append('\n').toString();
+        }
+    }
+
+    private static String await(Future<String> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a result.");
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package generator;
+
+import io.InstanceWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Command line tool writing a corpus of generated instances into a directory.
+ * Usage: CorpusGenerator directory rows cols seed [bin|txt|both] [distribution...]
+ */
+public class CorpusGenerator {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.out.println("Usage: CorpusGenerator directory rows cols seed [bin|txt|both] [distribution...]");
+            return;
+        }
+
+        Path directory = Paths.get(args[0]);
+        int rows = Integer.parseInt(args[1]);
+        int cols = Integer.parseInt(args[2]);
+        long seed = Long.parseLong(args[3]);
+        String format = args.length > 4 ? args[4] : "both";
+
+        Distribution[] distributions = Distribution.values();
+        if (args.length > 5) {
+            distributions = new Distribution[args.length - 5];
+            for (int k = 5; k < args.length; k++)
+                distributions[k - 5] = Distribution.valueOf(args[k].toUpperCase(Locale.ROOT));
+        }
+
+        Files.createDirectories(directory);
+        for (Distribution distribution : distributions) {
+            InstanceGenerator generator = new InstanceGenerator.Builder()
+                    .setSize(rows, cols)
+                    .setDistribution(distribution)
+                    .setSeed(seed)
+                    .build();
+
+            String name = distribution.name().toLowerCase(Locale.ROOT) + "-" + rows + "x" + cols + "-" + seed;
+            if (!format.equals("txt"))
+                InstanceWriter.writeBinary(generator, directory.resolve(name + ".bin"));
+            if (!format.equals("bin"))
+                InstanceWriter.writeText(generator, directory.resolve(name + ".txt"));
+
+            System.out.println("Written " + name);
+        }
+    }
+}
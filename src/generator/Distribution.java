@@ -0,0 +1,15 @@
+package generator;
+
+/**
+ * Kinds of generated transportation problems
+ */
+public enum Distribution {
+    /** supplies, demands and costs are drawn uniformly */
+    UNIFORM,
+    /** sources and destinations are grouped around random centres, costs are Euclidean distances */
+    CLUSTERED,
+    /** all supplies and all demands are equal, costs take only a few values, so allocations constantly tie */
+    DEGENERATE,
+    /** supplies follow a Pareto distribution, a few sources hold most of the goods */
+    HEAVY_TAILED
+}
@@ -0,0 +1,223 @@
+package generator;
+
+import structures.LongVector;
+import structures.VectorFactory;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of balanced transportation problems.
+ * Supply and demand are kept in memory, costs are generated row by row on request,
+ * so an instance never has to be stored as a whole. The same parameters always give the same instance.
+ */
+public class InstanceGenerator {
+    private static final int degenerateCosts = 5;
+    private static final int clusters = 8;
+    private static final double clusterSpread = 0.05;
+    private static final double paretoShape = 1.2;
+
+    private int rows;
+    private int cols;
+    private Distribution distribution = Distribution.UNIFORM;
+    private long seed;
+    private int maxCost = 100;
+    private int maxQuantity = 1000;
+
+    private LongVector supply;
+    private LongVector demand;
+    // Coordinates of sources and destinations, used only by the clustered distribution
+    private double[] sourceX, sourceY, destinationX, destinationY;
+
+    private InstanceGenerator() {
+    }
+
+    /**
+     * Class builder for initializing the size, distribution and seed of an instance
+     */
+    public static class Builder {
+        private final InstanceGenerator generator = new InstanceGenerator();
+
+        public Builder setSize(int rows, int cols) {
+            generator.rows = rows;
+            generator.cols = cols;
+            return this;
+        }
+
+        public Builder setDistribution(Distribution distribution) {
+            generator.distribution = distribution;
+            return this;
+        }
+
+        public Builder setSeed(long seed) {
+            generator.seed = seed;
+            return this;
+        }
+
+        public Builder setMaxCost(int maxCost) {
+            generator.maxCost = maxCost;
+            return this;
+        }
+
+        public Builder setMaxQuantity(int maxQuantity) {
+            generator.maxQuantity = maxQuantity;
+            return this;
+        }
+
+        public InstanceGenerator build() {
+            if (generator.rows <= 0 || generator.cols <= 0)
+                throw new IllegalArgumentException("Instance size must be positive.");
+            if (generator.maxCost <= 0 || generator.maxQuantity <= 0)
+                throw new IllegalArgumentException("Maximal cost and quantity must be positive.");
+
+            generator.generateQuantities();
+            return generator;
+        }
+    }
+
+    public int getNumberOfRows() {
+        return rows;
+    }
+
+    public int getNumberOfColumns() {
+        return cols;
+    }
+
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public LongVector getSupply() {
+        return supply.buildClone();
+    }
+
+    public LongVector getDemand() {
+        return demand.buildClone();
+    }
+
+    /**
+     * Method for generating one row of the matrix of costs.
+     * Every row has its own random stream, so rows can be generated in any order.
+     *
+     * @param row is an index of the row
+     * @param target is an array of at least 'cols' values the costs are written into
+     */
+    public void fillCostRow(int row, int[] target) {
+        if (row < 0 || row >= rows)
+            throw new IndexOutOfBoundsException("Row " + row + " is out of range.");
+        if (target.length < cols)
+            throw new IllegalArgumentException("Target array is shorter than a row.");
+
+        if (distribution == Distribution.CLUSTERED) {
+            for (int j = 0; j < cols; j++) {
+                double distance = Math.hypot(sourceX[row] - destinationX[j], sourceY[row] - destinationY[j]);
+                // The largest distance in the unit square is sqrt(2)
+                target[j] = 1 + (int) Math.min(maxCost - 1, Math.round(distance / Math.sqrt(2) * (maxCost - 1)));
+            }
+            return;
+        }
+
+        SplittableRandom random = new SplittableRandom(rowSeed(row));
+        int bound = distribution == Distribution.DEGENERATE ? Math.min(maxCost, degenerateCosts) : maxCost;
+        for (int j = 0; j < cols; j++)
+            target[j] = 1 + random.nextInt(bound);
+    }
+
+    private void generateQuantities() {
+        SplittableRandom random = new SplittableRandom(seed);
+        supply = VectorFactory.createEmptyLongVector(rows);
+        demand = VectorFactory.createEmptyLongVector(cols);
+
+        if (distribution == Distribution.DEGENERATE) {
+            // Every partial sum of supplies meets a partial sum of demands
+            long unit = 1 + random.nextInt(maxQuantity);
+            for (int i = 0; i < rows; i++)
+                supply.set(i, Math.multiplyExact(unit, cols));
+            for (int j = 0; j < cols; j++)
+                demand.set(j, Math.multiplyExact(unit, rows));
+            return;
+        }
+
+        for (int i = 0; i < rows; i++)
+            supply.set(i, distribution == Distribution.HEAVY_TAILED ? pareto(random) : 1 + random.nextInt(maxQuantity));
+
+        if (distribution == Distribution.CLUSTERED)
+            generateCoordinates(random);
+
+        splitTotal(supply.getSum(), random);
+    }
+
+    /**
+     * Method for deriving an independent seed of a row, nearby seeds of SplittableRandom share most of their streams
+     */
+    private long rowSeed(int row) {
+        // Finalizer of MurmurHash3
+        long z = seed ^ ((row + 1L) * 0xBF58476D1CE4E5B9L);
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    private long pareto(SplittableRandom random) {
+        // Inverse transform sampling, 1 - nextDouble() is in (0, 1]
+        double value = Math.pow(1.0 - random.nextDouble(), -1.0 / paretoShape);
+        return (long) Math.min(maxQuantity, Math.ceil(value));
+    }
+
+    /**
+     * Method for spreading the total supply over destinations with random weights, so the problem is balanced
+     */
+    private void splitTotal(long total, SplittableRandom random) {
+        long[] weights = new long[cols];
+        long weightSum = 0;
+        for (int j = 0; j < cols; j++) {
+            weights[j] = 1 + random.nextInt(maxQuantity);
+            weightSum += weights[j];
+        }
+
+        long assigned = 0;
+        for (int j = 0; j < cols; j++) {
+            // floor(total * weight / weightSum) without overflowing on large totals
+            long share = total / weightSum * weights[j] + Math.multiplyExact(total % weightSum, weights[j]) / weightSum;
+            demand.set(j, share);
+            assigned += share;
+        }
+
+        // Rounding leaves less than one unit per destination, it is handed out one by one
+        long remainder = total - assigned;
+        for (int j = 0; remainder > 0; j = (j + 1) % cols, remainder--)
+            demand.set(j, demand.get(j) + 1);
+    }
+
+    private void generateCoordinates(SplittableRandom random) {
+        double[] centreX = new double[clusters];
+        double[] centreY = new double[clusters];
+        for (int k = 0; k < clusters; k++) {
+            centreX[k] = random.nextDouble();
+            centreY[k] = random.nextDouble();
+        }
+
+        sourceX = new double[rows];
+        sourceY = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            int k = random.nextInt(clusters);
+            sourceX[i] = clamp(centreX[k] + random.nextGaussian() * clusterSpread);
+            sourceY[i] = clamp(centreY[k] + random.nextGaussian() * clusterSpread);
+        }
+
+        destinationX = new double[cols];
+        destinationY = new double[cols];
+        for (int j = 0; j < cols; j++) {
+            int k = random.nextInt(clusters);
+            destinationX[j] = clamp(centreX[k] + random.nextGaussian() * clusterSpread);
+            destinationY[j] = clamp(centreY[k] + random.nextGaussian() * clusterSpread);
+        }
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+}
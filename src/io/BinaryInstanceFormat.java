@@ -0,0 +1,51 @@
+package io;
+
+/**
+ * Layout of the binary instance file. All numbers are big-endian:
+ * <pre>
+ * int   magic        'TPRB'
+ * int   version
+ * int   rows
+ * int   cols
+ * long  supply[rows]
+ * long  demand[cols]
+ * int   costs[rows * cols]   row-major
+ * </pre>
+ * The header keeps the vectors 8-byte aligned and the costs 4-byte aligned, so the file can be mapped directly.
+ */
+public final class BinaryInstanceFormat {
+    public static final int magic = 0x54505242;
+    public static final int version = 1;
+    public static final int headerSize = 4 * Integer.BYTES;
+
+    private BinaryInstanceFormat() {
+    }
+
+    /**
+     * @return offset in bytes of the first supply value
+     */
+    public static long supplyOffset() {
+        return headerSize;
+    }
+
+    /**
+     * @return offset in bytes of the first demand value
+     */
+    public static long demandOffset(int rows) {
+        return headerSize + (long) rows * Long.BYTES;
+    }
+
+    /**
+     * @return offset in bytes of the first cost
+     */
+    public static long costsOffset(int rows, int cols) {
+        return demandOffset(rows) + (long) cols * Long.BYTES;
+    }
+
+    /**
+     * @return size in bytes of a whole file
+     */
+    public static long fileSize(int rows, int cols) {
+        return costsOffset(rows, cols) + (long) rows * cols * Integer.BYTES;
+    }
+}
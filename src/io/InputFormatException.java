@@ -0,0 +1,25 @@
+package io;
+
+/**
+ * Exception thrown when the input does not match the expected format, it knows where the problem is
+ */
+public class InputFormatException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private final int line;
+    private final int column;
+
+    public InputFormatException(int line, int column, String message) {
+        super("line " + line + ", column " + column + ": " + message);
+        this.line = line;
+        this.column = column;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+}
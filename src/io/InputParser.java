@@ -0,0 +1,246 @@
+package io;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.VectorFactory;
+import structures.implementations.FlatMatrix;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Line-based parser of integers reading raw bytes from a channel.
+ * Numbers are accumulated digit by digit without creating strings, and the matrix of costs
+ * is parsed straight into the storage of a flat matrix. Errors report the line and column of the problem.
+ */
+public class InputParser implements Closeable {
+    private static final int bufferSize = 1 << 16;
+    private static final int endOfInput = -1;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+    // Backing array of the buffer and the bounds of its unread part, accessed directly in the hot loop
+    private final byte[] bytes = buffer.array();
+    private int position;
+    private int limit;
+
+    // Position of the next byte to be read
+    private int line = 1;
+    private int column = 1;
+
+    private long[] scratch = new long[16];
+
+    public InputParser(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Method for checking whether anything but whitespace is left in the input
+     *
+     * @return true if there is another non-blank line
+     */
+    public boolean hasMore() {
+        int c = skipSpaces();
+        while (c == '\n') {
+            next();
+            c = skipSpaces();
+        }
+        return c != endOfInput;
+    }
+
+    /**
+     * Method for reading a vector from the next non-blank line, its length is the number of values on the line
+     *
+     * @return a vector of all values from the line
+     * @throws InputFormatException if the line contains something other than integers or there are no more lines
+     */
+    public LongVector readLongVectorLine() {
+        int length = readLine(Long.MIN_VALUE, Long.MAX_VALUE);
+        LongVector vector = VectorFactory.createEmptyLongVector(length);
+
+        for (int i = 0; i < length; i++)
+            vector.set(i, scratch[i]);
+
+        return vector;
+    }
+
+    /**
+     * Method for reading a vector of the given length from the next non-blank line
+     *
+     * @param length is an expected number of values on the line
+     * @return a vector of all values from the line
+     * @throws InputFormatException if the line is malformed or has a different number of values
+     */
+    public LongVector readLongVectorLine(int length) {
+        int lineNumber = skipBlankLines();
+        LongVector vector = readLongVectorLine();
+
+        if (vector.getLength() != length)
+            throw new InputFormatException(lineNumber, 1, "expected " + length + " values but found " + vector.getLength());
+
+        return vector;
+    }
+
+    /**
+     * Method for reading a matrix line by line, the number of columns is taken from the first line
+     *
+     * @param rows is a number of rows (lines) to read
+     * @return a flat matrix of the read values
+     * @throws InputFormatException if a line is malformed, a value does not fit into an int or rows differ in length
+     */
+    public Matrix readMatrix(int rows) {
+        int cols = readLine(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        FlatMatrix matrix = new FlatMatrix(rows, cols);
+        int[] values = matrix.getValues();
+
+        for (int j = 0; j < cols; j++)
+            values[j] = (int) scratch[j];
+
+        for (int i = 1; i < rows; i++) {
+            int lineNumber = skipBlankLines();
+            int offset = i * cols;
+            int count = 0;
+
+            for (int c = skipSpaces(); c != '\n' && c != endOfInput; c = skipSpaces()) {
+                if (count == cols)
+                    throw new InputFormatException(line, column, "expected " + cols + " values like the first row but found more");
+                values[offset + count++] = (int) readNumber(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            }
+            if (count != cols)
+                throw new InputFormatException(lineNumber, column, "expected " + cols + " values like the first row but found " + count);
+            next();
+        }
+
+        return matrix;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Method for parsing the next non-blank line into the scratch array
+     *
+     * @return number of values on the line
+     */
+    private int readLine(long min, long max) {
+        skipBlankLines();
+        int count = 0;
+
+        for (int c = skipSpaces(); c != '\n' && c != endOfInput; c = skipSpaces()) {
+            if (count == scratch.length)
+                scratch = Arrays.copyOf(scratch, count * 2);
+            scratch[count++] = readNumber(min, max);
+        }
+        next();
+
+        return count;
+    }
+
+    /**
+     * Method for skipping empty lines
+     *
+     * @return number of the line the next value is on
+     * @throws InputFormatException if the input ends before a non-blank line
+     */
+    private int skipBlankLines() {
+        if (!hasMore())
+            throw new InputFormatException(line, column, "unexpected end of input");
+
+        return line;
+    }
+
+    /**
+     * Method for skipping spaces within a line
+     *
+     * @return the first byte that is not a space, tab or carriage return, it is not consumed
+     */
+    private int skipSpaces() {
+        int c = peek();
+        while (c == ' ' || c == '\t' || c == '\r') {
+            next();
+            c = peek();
+        }
+        return c;
+    }
+
+    private long readNumber(long min, long max) {
+        int startLine = line;
+        int startColumn = column;
+
+        boolean negative = false;
+        int c = peek();
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            next();
+            c = peek();
+        }
+
+        if (c < '0' || c > '9')
+            throw new InputFormatException(line, column, "expected an integer but found " + describe(c));
+
+        // Accumulated as a negative number, so the minimal value can be read without overflow
+        long limit = negative ? min : -max;
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            int digit = c - '0';
+            if (value < (limit + digit) / 10)
+                throw new InputFormatException(startLine, startColumn, "number is out of range [" + min + ", " + max + "]");
+            value = value * 10 - digit;
+            next();
+            c = peek();
+        }
+
+        if (c != ' ' && c != '\t' && c != '\r' && c != '\n' && c != endOfInput)
+            throw new InputFormatException(line, column, "expected a separator but found " + describe(c));
+
+        return negative ? value : -value;
+    }
+
+    private static String describe(int c) {
+        if (c == endOfInput)
+            return "end of input";
+        if (c == '\n')
+            return "end of line";
+        if (c < ' ' || c > '~')
+            return String.format("byte 0x%02x", c);
+        return "'" + (char) c + "'";
+    }
+
+    private int peek() {
+        if (position == limit && !fill())
+            return endOfInput;
+        return bytes[position] & 0xFF;
+    }
+
+    private void next() {
+        if (position == limit && !fill())
+            return;
+        if (bytes[position++] == '\n') {
+            line++;
+            column = 1;
+        } else {
+            column++;
+        }
+    }
+
+    private boolean fill() {
+        try {
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            position = 0;
+            limit = Math.max(read, 0);
+            return read > 0;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
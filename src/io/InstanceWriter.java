@@ -0,0 +1,104 @@
+package io;
+
+import generator.InstanceGenerator;
+import structures.LongVector;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streaming writer of generated instances. Costs are produced and written one row at a time,
+ * so the memory used does not depend on the number of cells.
+ */
+public class InstanceWriter {
+    private static final int bufferSize = 1 << 16;
+
+    private InstanceWriter() {
+    }
+
+    /**
+     * Method for writing an instance in the binary format described in {@link BinaryInstanceFormat}
+     *
+     * @param generator is a source of the instance
+     * @param path is a file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeBinary(InstanceGenerator generator, Path path) throws IOException {
+        int rows = generator.getNumberOfRows();
+        int cols = generator.getNumberOfColumns();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), bufferSize))) {
+            out.writeInt(BinaryInstanceFormat.magic);
+            out.writeInt(BinaryInstanceFormat.version);
+            out.writeInt(rows);
+            out.writeInt(cols);
+
+            writeLongs(out, generator.getSupply());
+            writeLongs(out, generator.getDemand());
+
+            int[] row = new int[cols];
+            for (int i = 0; i < rows; i++) {
+                generator.fillCostRow(i, row);
+                for (int j = 0; j < cols; j++)
+                    out.writeInt(row[j]);
+            }
+        }
+    }
+
+    /**
+     * Method for writing an instance in the text format read by Main:
+     * a line of supplies, one line of costs per source and a line of demands
+     *
+     * @param generator is a source of the instance
+     * @param path is a file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeText(InstanceGenerator generator, Path path) throws IOException {
+        int rows = generator.getNumberOfRows();
+        int cols = generator.getNumberOfColumns();
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.US_ASCII), bufferSize)) {
+            StringBuilder line = new StringBuilder();
+
+            writeLine(out, line, generator.getSupply());
+
+            int[] row = new int[cols];
+            for (int i = 0; i < rows; i++) {
+                generator.fillCostRow(i, row);
+                line.setLength(0);
+                for (int j = 0; j < cols; j++) {
+                    if (j > 0)
+                        line.append(' ');
+                    line.append(row[j]);
+                }
+                line.append('\n');
+                out.append(line);
+            }
+
+            writeLine(out, line, generator.getDemand());
+        }
+    }
+
+    private static void writeLongs(DataOutputStream out, LongVector vector) throws IOException {
+        for (int i = 0; i < vector.getLength(); i++)
+            out.writeLong(vector.get(i));
+    }
+
+    private static void writeLine(Writer out, StringBuilder line, LongVector vector) throws IOException {
+        line.setLength(0);
+        for (int i = 0; i < vector.getLength(); i++) {
+            if (i > 0)
+                line.append(' ');
+            line.append(vector.get(i));
+        }
+        line.append('\n');
+        out.append(line);
+    }
+}
@@ -0,0 +1,142 @@
+package io;
+
+import solver.SolveListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Listener writing every solve event as one JSON object per line, e.g.
+ * <pre>
+ * {"event":"phase","algorithm":"VogelAlgorithm","phase":"penalties","nanos":1234}
+ * </pre>
+ * Events of algorithms running at once (as in a portfolio) are written whole, one line at a time.
+ * Allocations and pivots are written only if enabled, they make one line per iteration;
+ * the numbers of allocations and degenerate allocations of a solve are always written with its "finish" event.
+ * A solve is reported from one thread from start to finish, so the counts are kept per algorithm and thread
+ * and two solves of the same algorithm running at once count separately
+ */
+public class JsonLinesExporter implements SolveListener, Closeable {
+    private final Writer out;
+    private final boolean iterations;
+    private final StringBuilder line = new StringBuilder();
+    // Numbers of allocations and degenerate allocations of the running solves of every algorithm and thread,
+    // the innermost solve is on top if a solve runs another one of the same algorithm
+    private final Map<String, Deque<long[]>> counters = new HashMap<>();
+
+    /**
+     * Constructor of an exporter writing solves and phases only
+     *
+     * @param out is a writer of the lines, it is not buffered by the exporter
+     */
+    public JsonLinesExporter(Writer out) {
+        this(out, false);
+    }
+
+    /**
+     * @param out is a writer of the lines, it is not buffered by the exporter
+     * @param iterations is true if every allocation and pivot is written as well
+     */
+    public JsonLinesExporter(Writer out, boolean iterations) {
+        this.out = out;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public synchronized void solveStarted(String algorithm, int rows, int cols) {
+        counters.computeIfAbsent(key(algorithm), key -> new ArrayDeque<>()).push(new long[2]);
+        begin("start", algorithm).append(",\"rows\":").append(rows).append(",\"cols\":").append(cols);
+        end();
+    }
+
+    @Override
+    public synchronized void phaseFinished(String algorithm, String phase, long nanos) {
+        begin("phase", algorithm).append(",\"phase\":");
+        string(phase).append(",\"nanos\":").append(nanos);
+        end();
+    }
+
+    @Override
+    public synchronized void allocated(String algorithm, int row, int col, long amount, boolean degenerate) {
+        Deque<long[]> running = counters.computeIfAbsent(key(algorithm), key -> new ArrayDeque<>());
+        if (running.isEmpty()) running.push(new long[2]);
+        long[] counted = running.peek();
+        counted[0]++;
+        if (degenerate) counted[1]++;
+        if (!iterations) return;
+
+        begin("allocation", algorithm).append(",\"row\":").append(row).append(",\"col\":").append(col)
+                .append(",\"amount\":").append(amount).append(",\"degenerate\":").append(degenerate);
+        end();
+    }
+
+    @Override
+    public synchronized void pivoted(String algorithm, int iteration, long objective) {
+        if (!iterations) return;
+
+        begin("pivot", algorithm).append(",\"iteration\":").append(iteration).append(",\"objective\":").append(objective);
+        end();
+    }
+
+    @Override
+    public synchronized void solveFinished(String algorithm, int iterations, long objective, long nanos) {
+        begin("finish", algorithm).append(",\"iterations\":").append(iterations)
+                .append(",\"objective\":").append(objective).append(",\"nanos\":").append(nanos);
+        String key = key(algorithm);
+        Deque<long[]> running = counters.get(key);
+        if (running != null) {
+            long[] counted = running.pop();
+            if (running.isEmpty()) counters.remove(key);
+            line.append(",\"allocations\":").append(counted[0]).append(",\"degenerate\":").append(counted[1]);
+        }
+        end();
+    }
+
+    /**
+     * Method for flushing and closing the underlying writer
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * @return a key of the counters of the algorithm solving on the current thread
+     */
+    private static String key(String algorithm) {
+        return algorithm + '@' + Thread.currentThread().getId();
+    }
+
+    private StringBuilder begin(String event, String algorithm) {
+        line.setLength(0);
+        line.append("{\"event\":");
+        string(event).append(",\"algorithm\":");
+        return string(algorithm);
+    }
+
+    private StringBuilder string(String value) {
+        line.append('"');
+        for (int k = 0; k < value.length(); k++) {
+            char c = value.charAt(k);
+            if (c == '"' || c == '\\') line.append('\\');
+            if (c < ' ') line.append(String.format("\\u%04x", (int) c));
+            else line.append(c);
+        }
+        return line.append('"');
+    }
+
+    private void end() {
+        line.append("}\n");
+        try {
+            out.write(line.toString());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
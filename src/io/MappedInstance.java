@@ -0,0 +1,83 @@
+package io;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.MatrixFactory;
+import structures.VectorFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Instance loaded from a file in the binary format described in {@link BinaryInstanceFormat}.
+ * Supply and demand are copied to the heap, the matrix of costs stays in the mapped file,
+ * so opening takes the same time for any number of cells
+ */
+public class MappedInstance {
+    private final LongVector supply;
+    private final LongVector demand;
+    private final Matrix costs;
+
+    private MappedInstance(LongVector supply, LongVector demand, Matrix costs) {
+        this.supply = supply;
+        this.demand = demand;
+        this.costs = costs;
+    }
+
+    /**
+     * Method for opening an instance file
+     *
+     * @param path is a file written by {@link InstanceWriter#writeBinary}
+     * @return the instance with a memory-mapped matrix of costs
+     * @throws IOException if the file cannot be read or mapped
+     * @throws IllegalArgumentException if the file is not a valid instance
+     */
+    public static MappedInstance open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(BinaryInstanceFormat.headerSize);
+            while (header.hasRemaining())
+                if (channel.read(header) < 0)
+                    throw new IllegalArgumentException("File is too short for a header.");
+            header.flip();
+
+            if (header.getInt() != BinaryInstanceFormat.magic)
+                throw new IllegalArgumentException("File is not a transportation problem instance.");
+            int version = header.getInt();
+            if (version != BinaryInstanceFormat.version)
+                throw new IllegalArgumentException("Unsupported format version " + version + ".");
+            int rows = header.getInt();
+            int cols = header.getInt();
+            if (rows <= 0 || cols <= 0)
+                throw new IllegalArgumentException("Wrong instance size " + rows + "x" + cols + ".");
+            if (channel.size() != BinaryInstanceFormat.fileSize(rows, cols))
+                throw new IllegalArgumentException("File size does not match a " + rows + "x" + cols + " instance.");
+
+            ByteBuffer vectors = channel.map(FileChannel.MapMode.READ_ONLY, BinaryInstanceFormat.supplyOffset(),
+                    (long) (rows + cols) * Long.BYTES);
+            LongVector supply = VectorFactory.createEmptyLongVector(rows);
+            for (int i = 0; i < rows; i++)
+                supply.set(i, vectors.getLong());
+            LongVector demand = VectorFactory.createEmptyLongVector(cols);
+            for (int j = 0; j < cols; j++)
+                demand.set(j, vectors.getLong());
+
+            Matrix costs = MatrixFactory.createMappedMatrix(channel, BinaryInstanceFormat.costsOffset(rows, cols), rows, cols);
+            return new MappedInstance(supply, demand, costs);
+        }
+    }
+
+    public LongVector getSupply() {
+        return supply;
+    }
+
+    public LongVector getDemand() {
+        return demand;
+    }
+
+    public Matrix getCosts() {
+        return costs;
+    }
+}
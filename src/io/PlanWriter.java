@@ -0,0 +1,402 @@
+package io;
+
+import solver.SolveListener;
+import structures.Plan;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Streaming writer of solution plans. Numbers are encoded straight into a large buffer and the buffer is written
+ * to the channel only when it is full, so writing a plan costs a few channel writes whatever its size.
+ * With an executor the full buffer is written in the background while the next one is being filled,
+ * so output overlaps with the computation producing the cells.
+ * <p>
+ * A plan is written as begin, any number of cells and end. Formats:
+ * <ul>
+ *     <li>TEXT: the line printed by Main, "description: x = [x_11, x_12, ..., x_mn], total cost = N",
+ *     cells must come in row-major order, the cells skipped in between are 0</li>
+ *     <li>CSV: a header "source,destination,amount" and a line for every non-zero cell, indices start from 0</li>
+ *     <li>BINARY: big-endian int magic 'TPPL', int version, int rows, int cols, then a record (int row, int col, long amount)
+ *     for every non-zero cell and the record (-1, -1, total cost) at the end</li>
+ * </ul>
+ * The writer is not thread-safe
+ */
+public class PlanWriter implements Closeable {
+    public static final int magic = 0x5450504C;
+    public static final int version = 1;
+
+    private static final int defaultBufferSize = 1 << 20;
+    // Space kept free for one CSV line, one value or one binary record, longer text is split
+    private static final int reserve = 64;
+    private static final byte[] lineSeparator = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Formats of the written plans
+     */
+    public enum Format {
+        TEXT, CSV, BINARY
+    }
+
+    private WritableByteChannel channel;
+    private Format format = Format.TEXT;
+    private int bufferSize = defaultBufferSize;
+    private Executor executor;
+
+    private ByteBuffer buffer;
+    private ByteBuffer spare;
+    private Future<?> pending;
+
+    // State of the plan being written
+    private boolean open;
+    private int rows;
+    private int cols;
+    private long nextPosition;
+
+    private PlanWriter() {
+    }
+
+    /**
+     * Class builder for setting the channel, the format, the buffer size and the executor of background writes
+     */
+    public static class Builder {
+        private final PlanWriter writer = new PlanWriter();
+
+        public Builder channel(WritableByteChannel channel) {
+            writer.channel = channel;
+            return this;
+        }
+
+        public Builder format(Format format) {
+            writer.format = format;
+            return this;
+        }
+
+        /**
+         * @param bufferSize is a size in bytes of each of the two buffers, 1 MB by default
+         */
+        public Builder bufferSize(int bufferSize) {
+            writer.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * @param executor runs the writes of full buffers, by default they are written on the calling thread
+         */
+        public Builder executor(Executor executor) {
+            writer.executor = executor;
+            return this;
+        }
+
+        public PlanWriter build() {
+            if (writer.channel == null)
+                throw new IllegalStateException("Channel not set.");
+            if (writer.bufferSize < 2 * reserve)
+                throw new IllegalArgumentException("Buffer size must be at least " + 2 * reserve + " bytes.");
+
+            writer.buffer = ByteBuffer.allocate(writer.bufferSize);
+            if (writer.executor != null)
+                writer.spare = ByteBuffer.allocate(writer.bufferSize);
+            return writer;
+        }
+    }
+
+    /**
+     * Method for writing a whole plan. Cells are sorted into row-major order first if the format needs it
+     *
+     * @param plan is a solution plan
+     * @param totalCost is a total cost of the plan
+     * @param description is a description of the plan, used by the text format only
+     * @throws IOException if the channel cannot be written
+     */
+    public void write(Plan plan, long totalCost, String description) throws IOException {
+        begin(plan.getNumberOfRows(), plan.getNumberOfColumns(), description);
+
+        if (format == Format.TEXT) {
+            // Positions of the cells in row-major order, repeated cells are summed as in Plan.toVector
+            long[] positions = new long[plan.getSize()];
+            for (int k = 0; k < positions.length; k++)
+                positions[k] = ((long) plan.getRow(k) * cols + plan.getColumn(k)) << 32 | k;
+            Arrays.sort(positions);
+
+            for (int k = 0; k < positions.length; ) {
+                long position = positions[k] >>> 32;
+                long amount = 0;
+                for (; k < positions.length && positions[k] >>> 32 == position; k++)
+                    amount += plan.getAmount((int) positions[k]);
+                cell((int) (position / cols), (int) (position % cols), amount);
+            }
+        } else {
+            for (int k = 0; k < plan.getSize(); k++)
+                cell(plan.getRow(k), plan.getColumn(k), plan.getAmount(k));
+        }
+
+        end(totalCost);
+    }
+
+    /**
+     * Method for starting a plan written cell by cell
+     *
+     * @param rows is a number of sources
+     * @param cols is a number of destinations
+     * @param description is a description of the plan, used by the text format only
+     * @throws IOException if the channel cannot be written
+     */
+    public void begin(int rows, int cols, String description) throws IOException {
+        if (open)
+            throw new IllegalStateException("The previous plan is not finished.");
+        if ((long) rows * cols > 1L << 31 && format == Format.TEXT)
+            throw new IllegalArgumentException("Plan is too large for the text format.");
+
+        this.open = true;
+        this.rows = rows;
+        this.cols = cols;
+        this.nextPosition = 0;
+
+        switch (format) {
+            case TEXT:
+                putText(description);
+                putText(": x = [");
+                break;
+            case CSV:
+                putText("source,destination,amount");
+                putBytes(lineSeparator);
+                break;
+            case BINARY:
+                ensure();
+                buffer.putInt(magic).putInt(version).putInt(rows).putInt(cols);
+                break;
+        }
+    }
+
+    /**
+     * Method for writing one cell of the plan, zero cells are skipped by all formats but the text one
+     *
+     * @param row is an index of the source
+     * @param col is an index of the destination
+     * @param amount is an amount shipped
+     * @throws IOException if the channel cannot be written
+     * @throws IllegalArgumentException if a cell of the text format does not follow the previous one in row-major order
+     */
+    public void cell(int row, int col, long amount) throws IOException {
+        if (!open)
+            throw new IllegalStateException("No plan started.");
+        if (row < 0 || row >= rows || col < 0 || col >= cols)
+            throw new IndexOutOfBoundsException();
+
+        switch (format) {
+            case TEXT:
+                long position = (long) row * cols + col;
+                if (position < nextPosition)
+                    throw new IllegalArgumentException("Cells of the text format must come in row-major order.");
+                for (; nextPosition < position; nextPosition++)
+                    putValue(0);
+                putValue(amount);
+                nextPosition++;
+                break;
+            case CSV:
+                if (amount == 0) return;
+                ensure();
+                putNumber(row);
+                buffer.put((byte) ',');
+                putNumber(col);
+                buffer.put((byte) ',');
+                putNumber(amount);
+                putBytes(lineSeparator);
+                break;
+            case BINARY:
+                if (amount == 0) return;
+                ensure();
+                buffer.putInt(row).putInt(col).putLong(amount);
+                break;
+        }
+    }
+
+    /**
+     * Method for finishing the plan, the output may still be buffered until flush
+     *
+     * @param totalCost is a total cost of the plan
+     * @throws IOException if the channel cannot be written
+     */
+    public void end(long totalCost) throws IOException {
+        if (!open)
+            throw new IllegalStateException("No plan started.");
+
+        switch (format) {
+            case TEXT:
+                for (long size = (long) rows * cols; nextPosition < size; nextPosition++)
+                    putValue(0);
+                putText("], total cost = ");
+                ensure();
+                putNumber(totalCost);
+                putBytes(lineSeparator);
+                break;
+            case CSV:
+                break;
+            case BINARY:
+                ensure();
+                buffer.putInt(-1).putInt(-1).putLong(totalCost);
+                break;
+        }
+        open = false;
+    }
+
+    /**
+     * Method for getting a listener writing the allocations of an approximation method as they are made,
+     * so a plan is written while it is being produced. The plan must have been started with begin
+     * and the cells of the text format must come in row-major order, as the ones of North-West do
+     *
+     * @param algorithm is a name of the algorithm whose allocations are written, e.g. "NorthWest"
+     * @return a listener to set on the algorithm
+     */
+    public SolveListener allocations(String algorithm) {
+        return new SolveListener() {
+            @Override
+            public void allocated(String name, int row, int col, long amount, boolean degenerate) {
+                if (!name.equals(algorithm) || amount == 0) return;
+
+                try {
+                    cell(row, col, amount);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        };
+    }
+
+    /**
+     * Method for writing everything buffered and waiting for the background writes
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void flush() throws IOException {
+        drain();
+        await();
+    }
+
+    /**
+     * Method for flushing the writer and closing the channel
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void putValue(long value) throws IOException {
+        if (nextPosition > 0) {
+            ensure();
+            buffer.put((byte) ',').put((byte) ' ');
+        }
+        ensure();
+        putNumber(value);
+    }
+
+    /**
+     * Method for encoding a number in decimal, there must be room for 20 characters
+     */
+    private void putNumber(long value) {
+        if (value == Long.MIN_VALUE) {
+            buffer.put(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) digits++;
+
+        int end = buffer.position() + digits;
+        for (int p = end - 1; p >= buffer.position(); p--) {
+            buffer.put(p, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(end);
+    }
+
+    private void putText(String text) throws IOException {
+        putBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+        for (int offset = 0; offset < bytes.length; ) {
+            ensure();
+            int length = Math.min(bytes.length - offset, buffer.remaining() - reserve);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Method for making sure the buffer has room for one number or one record
+     */
+    private void ensure() throws IOException {
+        if (buffer.remaining() <= reserve)
+            drain();
+    }
+
+    /**
+     * Method for passing the filled part of the buffer to the channel. With an executor the buffers are swapped:
+     * the filled one is written in the background and the other one, whose write has finished, is filled next
+     */
+    private void drain() throws IOException {
+        if (buffer.position() == 0) return;
+
+        buffer.flip();
+        if (executor == null) {
+            writeFully(channel, buffer);
+            buffer.clear();
+            return;
+        }
+
+        await();
+        ByteBuffer full = buffer;
+        buffer = spare;
+        spare = full;
+        buffer.clear();
+
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            writeFully(channel, full);
+            return null;
+        });
+        pending = task;
+        executor.execute(task);
+    }
+
+    private void await() throws IOException {
+        if (pending == null) return;
+
+        try {
+            pending.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a write.");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException)
+                throw (IOException) ex.getCause();
+            throw new IOException(ex.getCause());
+        } finally {
+            pending = null;
+        }
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer data) throws IOException {
+        while (data.hasRemaining())
+            channel.write(data);
+    }
+}
@@ -0,0 +1,67 @@
+package solver;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+
+/**
+ * Algorithm's interface with method for solving the problem.
+ * Iterative algorithms stop with a CancellationException once the solving thread is interrupted
+ */
+public interface Algorithm {
+    Plan solve(LongVector supply, LongVector demand, Matrix costs);
+
+    /**
+     * Method for solving the problem on a shared cost model, algorithms reusing its derived data override it
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return a solution plan
+     */
+    default Plan solve(LongVector supply, LongVector demand, CostModel model) {
+        return solve(supply, demand, model.getCosts());
+    }
+
+    /**
+     * Method for solving the problem for an improving method, which starts from the basis of the solution.
+     * Algorithms whose solutions may have fewer cells than a basis return the plan of solve,
+     * the improving method then completes it to a basis
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return a solution plan, a complete basis if givesCompleteBasis is true
+     */
+    default Plan solveBasis(LongVector supply, LongVector demand, Matrix costs) {
+        return solve(supply, demand, costs);
+    }
+
+    /**
+     * Method for solving the problem for an improving method on a shared cost model
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return a solution plan, a complete basis if givesCompleteBasis is true
+     */
+    default Plan solveBasis(LongVector supply, LongVector demand, CostModel model) {
+        return solve(supply, demand, model);
+    }
+
+    /**
+     * @return true if solveBasis gives exactly m + n - 1 cells, zero ones included, forming a spanning tree
+     * of rows and columns, so the improving method can use them without completing them
+     */
+    default boolean givesCompleteBasis() {
+        return false;
+    }
+
+    /**
+     * Method for setting a listener the following solves report into, algorithms without instrumentation ignore it
+     *
+     * @param listener is a listener, SolveListener.disabled turns reporting off
+     */
+    default void setListener(SolveListener listener) {
+    }
+}
@@ -0,0 +1,75 @@
+package solver;
+
+import structures.Plan;
+
+/**
+ * Outcome of a solve with a time limit or a target gap: the best plan found and a proven lower bound
+ * of the optimal total cost. The true optimum lies between the two, so the gap bounds how far the plan is from it
+ */
+public class ApproximateSolution {
+    private final Plan plan;
+    private final long totalCost;
+    private final long lowerBound;
+    private final int iterations;
+    private final String initial;
+
+    ApproximateSolution(Plan plan, long totalCost, long lowerBound, int iterations, String initial) {
+        this.plan = plan;
+        this.totalCost = totalCost;
+        this.lowerBound = lowerBound;
+        this.iterations = iterations;
+        this.initial = initial;
+    }
+
+    public Plan getPlan() {
+        return plan;
+    }
+
+    /**
+     * @return the total cost of the plan, an upper bound of the optimum
+     */
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    /**
+     * @return a lower bound of the optimal total cost, Long.MIN_VALUE if none was proven in time
+     */
+    public long getLowerBound() {
+        return lowerBound;
+    }
+
+    public boolean hasLowerBound() {
+        return lowerBound != Long.MIN_VALUE;
+    }
+
+    /**
+     * @return (total cost - lower bound) / |total cost|, 0 for an optimal plan and infinity without a lower bound
+     */
+    public double getGap() {
+        if (lowerBound >= totalCost) return 0;
+        if (!hasLowerBound() || totalCost == 0) return Double.POSITIVE_INFINITY;
+        return ((double) totalCost - lowerBound) / Math.abs((double) totalCost);
+    }
+
+    /**
+     * @return true if the lower bound proves the plan optimal
+     */
+    public boolean isOptimal() {
+        return lowerBound >= totalCost;
+    }
+
+    /**
+     * @return a number of simplex pivots made after the initial solution
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return a name of the algorithm whose solution the pivots started from
+     */
+    public String getInitial() {
+        return initial;
+    }
+}
@@ -0,0 +1,316 @@
+package solver;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Class for solving a problem within a time limit or up to a target optimality gap.
+ * <ol>
+ *     <li>the North-West staircase is built first, it takes O(m + n), so a plan is always at hand</li>
+ *     <li>the heuristic runs in the background for at most half of the time, it is cancelled if it is late;
+ *     meanwhile the calling thread computes the bound of zero potentials</li>
+ *     <li>simplex pivots improve the cheaper of the two plans until the deadline, the target gap or the optimum</li>
+ * </ol>
+ * Every complete pricing scan also gives a lower bound: for the potentials u, v of the basis and the reduced costs
+ * r = c - u - v, the optimum is at least the cost of the basis plus the sum over rows of s_i * min(0, min_j r_ij)
+ * (and the same over columns), because every row ships exactly s_i. A scan the deadline cuts short gives no bound,
+ * the deadline is checked after every row. Before the first pivot the bound of zero potentials is taken,
+ * the sum over rows of s_i * min_j c_ij, so even a plan returned without pivots has a bound
+ */
+public class ApproximateSolver {
+    private static final String name = "ApproximateSolver";
+
+    // Threads of the heuristics, daemons so that a heuristic still finishing after a cancel does not keep the JVM alive
+    private static final ExecutorService sharedExecutor = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "approximate-heuristic");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Supplier<Algorithm> heuristic = IncrementalVogelAlgorithm::new;
+    private Duration deadline;
+    private double targetGap;
+    private ExecutorService executor = sharedExecutor;
+    private SolveListener listener = SolveListener.disabled;
+
+    private ApproximateSolver() {
+    }
+
+    /**
+     * Class builder for setting the heuristic, the deadline, the target gap and the executor of the heuristic
+     */
+    public static class Builder {
+        private final ApproximateSolver solver = new ApproximateSolver();
+
+        /**
+         * @param heuristic creates the algorithm of the initial solution for every solve, since a cancelled one may still
+         *                  be finishing; IncrementalVogelAlgorithm by default, it reuses the sorted index of the cost model
+         */
+        public Builder heuristic(Supplier<Algorithm> heuristic) {
+            solver.heuristic = heuristic;
+            return this;
+        }
+
+        /**
+         * @param deadline is a time after which the best plan found so far is returned, none by default
+         */
+        public Builder deadline(Duration deadline) {
+            solver.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * @param targetGap is a relative gap, e.g. 0.01 for 1%, at which the solve stops early, 0 by default
+         */
+        public Builder targetGap(double targetGap) {
+            solver.targetGap = targetGap;
+            return this;
+        }
+
+        /**
+         * @param executor runs the heuristic, its futures must interrupt their threads when cancelled
+         */
+        public Builder executor(ExecutorService executor) {
+            solver.executor = executor;
+            return this;
+        }
+
+        public ApproximateSolver build() {
+            if (solver.targetGap < 0 || Double.isNaN(solver.targetGap))
+                throw new IllegalArgumentException("Target gap must not be negative.");
+            if (solver.deadline != null && solver.deadline.isNegative())
+                throw new IllegalArgumentException("Deadline must not be negative.");
+            return solver;
+        }
+    }
+
+    /**
+     * Method for setting the listener of this solver and of its heuristic
+     *
+     * @param listener is a thread-safe listener of solve events, the heuristic reports from another thread
+     */
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Method for solving a balanced problem. If the solving thread is interrupted, the best plan so far is returned
+     * and the interrupt flag is kept
+     *
+     * @param supply is a vector of supply, it is not changed
+     * @param demand is a vector of demand, it is not changed
+     * @param model is a model of the matrix of costs
+     * @return the best plan found with its lower bound
+     * @throws IllegalArgumentException if the problem is not balanced
+     */
+    public ApproximateSolution solve(LongVector supply, LongVector demand, CostModel model) {
+        // Checked before the heuristic is started, so nothing is left running on a bad input
+        if (supply.getSum() != demand.getSum())
+            throw new IllegalArgumentException("The problem is not balanced.");
+
+        long began = System.nanoTime();
+        boolean limited = deadline != null;
+        long end = limited ? began + deadline.toNanos() : 0;
+        Matrix costs = model.getCosts();
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+        listener.solveStarted(name, rows, cols);
+
+        LongVector heuristicSupply = supply.buildClone();
+        LongVector heuristicDemand = demand.buildClone();
+        Algorithm algorithm = heuristic.get();
+        algorithm.setListener(listener);
+        Future<Plan> running = executor.submit(() -> algorithm.solveBasis(heuristicSupply, heuristicDemand, model));
+
+        try {
+            return improve(supply, demand, costs, running, algorithm, began, limited, end);
+        } finally {
+            // A no-op if the heuristic has finished, otherwise it must not outlive the solve
+            running.cancel(true);
+        }
+    }
+
+    /**
+     * Method for finding the initial plan and improving it, the calling thread works while the heuristic runs:
+     * it builds the staircase and the bound of zero potentials and waits only for the rest of the half of the time
+     */
+    private ApproximateSolution improve(LongVector supply, LongVector demand, Matrix costs, Future<Plan> running,
+                                        Algorithm algorithm, long began, boolean limited, long end) {
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+
+        Algorithm fallback = new NorthWest();
+        Plan start = fallback.solveBasis(supply.buildClone(), demand.buildClone(), costs);
+        long objective = start.getTotalCost(costs);
+        String initial = "NorthWest";
+        boolean fullBasis = fallback.givesCompleteBasis();
+
+        long lowerBound = cheapestBound(supply, demand, costs, limited, end);
+
+        Plan found = await(running, limited, began + (end - began) / 2);
+        if (found != null) {
+            long foundCost = found.getTotalCost(costs);
+            if (foundCost <= objective) {
+                start = found;
+                objective = foundCost;
+                initial = algorithm.getClass().getSimpleName();
+                fullBasis = algorithm.givesCompleteBasis();
+            }
+        }
+        listener.phaseFinished(name, "initial", System.nanoTime() - began);
+
+        BasisTree tree = fullBasis ? ModiAlgorithm.completeBasis(start, costs) : ModiAlgorithm.buildBasis(start, costs);
+        long[] colMin = new long[cols];
+        int iterations = 0;
+
+        while (!reached(objective, lowerBound) && !stopped(limited, end)) {
+            int enterRow = -1;
+            int enterCol = -1;
+            long best = 0;
+            long rowSlack = 0;
+            boolean complete = true;
+            boolean exact = true;
+            Arrays.fill(colMin, 0);
+
+            for (int i = 0; i < rows; i++) {
+                if (stopped(limited, end)) {
+                    complete = false;
+                    break;
+                }
+
+                long rowMin = 0;
+                for (int j = 0; j < cols; j++) {
+                    long reducedCost = tree.reducedCost(i, rows + j, costs.getItem(i, j));
+                    if (reducedCost < rowMin) rowMin = reducedCost;
+                    if (reducedCost < colMin[j]) colMin[j] = reducedCost;
+                    if (reducedCost < best) {
+                        best = reducedCost;
+                        enterRow = i;
+                        enterCol = j;
+                    }
+                }
+
+                try {
+                    rowSlack = Math.addExact(rowSlack, Math.multiplyExact(supply.get(i), rowMin));
+                } catch (ArithmeticException ex) {
+                    exact = false;
+                }
+            }
+
+            if (!complete) break;
+
+            if (exact) {
+                try {
+                    long colSlack = 0;
+                    for (int j = 0; j < cols; j++)
+                        colSlack = Math.addExact(colSlack, Math.multiplyExact(demand.get(j), colMin[j]));
+                    lowerBound = Math.max(lowerBound, Math.addExact(objective, Math.max(rowSlack, colSlack)));
+                } catch (ArithmeticException ex) {
+                    // The bound of this scan does not fit into a long, the previous one stays
+                }
+            }
+
+            if (enterRow == -1) {
+                lowerBound = objective;
+                break;
+            }
+            if (reached(objective, lowerBound) || stopped(limited, end)) break;
+
+            long moved = tree.pivot(enterRow, rows + enterCol, costs.getItem(enterRow, enterCol), 0);
+            objective += best * moved;
+            iterations++;
+            listener.pivoted(name, iterations, objective);
+        }
+
+        Plan answer = PlanFactory.createEmptyPlan(rows, cols);
+        for (int e = 0; e < tree.getEdgeCount(); e++)
+            answer.add(tree.getTail(e), tree.getHead(e) - rows, tree.getFlow(e));
+
+        listener.solveFinished(name, iterations, objective, System.nanoTime() - began);
+        return new ApproximateSolution(answer, objective, lowerBound, iterations, initial);
+    }
+
+    /**
+     * Method for waiting for the heuristic until a time, a late heuristic is cancelled
+     *
+     * @param limited is false if the heuristic is awaited however long it takes
+     * @return the plan of the heuristic, or null if it failed or was late
+     */
+    private static Plan await(Future<Plan> running, boolean limited, long until) {
+        try {
+            if (!limited)
+                return running.get();
+            return running.get(Math.max(until - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            // The staircase is used instead
+        }
+
+        running.cancel(true);
+        return null;
+    }
+
+    /**
+     * Method for the bound of zero potentials: every row ships its supply at least at the cheapest cost of the row,
+     * and every column receives its demand at least at the cheapest cost of the column.
+     * The matrix is scanned in row-major order and the deadline is checked after every row
+     *
+     * @return the larger of the row and column bounds, or Long.MIN_VALUE if cut short or too large for a long
+     */
+    private static long cheapestBound(LongVector supply, LongVector demand, Matrix costs, boolean limited, long end) {
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+        long[] colMin = new long[cols];
+        Arrays.fill(colMin, Long.MAX_VALUE);
+
+        try {
+            long rowBound = 0;
+            for (int i = 0; i < rows; i++) {
+                if (stopped(limited, end)) return Long.MIN_VALUE;
+
+                long rowMin = Long.MAX_VALUE;
+                for (int j = 0; j < cols; j++) {
+                    long cost = costs.getItem(i, j);
+                    if (cost < rowMin) rowMin = cost;
+                    if (cost < colMin[j]) colMin[j] = cost;
+                }
+                rowBound = Math.addExact(rowBound, Math.multiplyExact(supply.get(i), rowMin));
+            }
+
+            long colBound = 0;
+            for (int j = 0; j < cols; j++)
+                colBound = Math.addExact(colBound, Math.multiplyExact(demand.get(j), colMin[j]));
+            return Math.max(rowBound, colBound);
+        } catch (ArithmeticException ex) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * @return true if the gap between the objective and the lower bound is within the target
+     */
+    private boolean reached(long objective, long lowerBound) {
+        if (lowerBound == Long.MIN_VALUE) return false;
+        return (double) objective - lowerBound <= targetGap * Math.abs((double) objective);
+    }
+
+    /**
+     * @return true if the deadline has passed or the solving thread is interrupted
+     */
+    private static boolean stopped(boolean limited, long end) {
+        return (limited && System.nanoTime() - end >= 0) || Thread.currentThread().isInterrupted();
+    }
+}
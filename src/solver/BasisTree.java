@@ -0,0 +1,268 @@
+package solver;
+
+import java.util.Arrays;
+
+/**
+ * Class for a spanning-tree basis of a network simplex over directed, uncapacitated arcs.
+ * Every node keeps a parent pointer, the tree edge leading to the parent, its depth and its potential,
+ * so a pivot walks only the cycle it closes and relabels only the subtree it moves
+ */
+class BasisTree {
+    private final int nodeCount;
+
+    // Tree edges
+    private final int[] tail;
+    private final int[] head;
+    private final long[] cost;
+    private final long[] flow;
+    private final int[] id;
+    private int edgeCount;
+
+    // Adjacency lists of half-edges, half-edge 2 * e belongs to tail[e] and 2 * e + 1 to head[e]
+    private final int[] firstHalf;
+    private final int[] nextHalf;
+    private final int[] prevHalf;
+
+    // Nodes
+    private final int[] parent;
+    private final int[] pred;
+    private final int[] depth;
+    private final long[] potential;
+
+    private final int[] stack;
+
+    /**
+     * Constructor of an empty basis, edges are added with addEdge and the tree is finished with build
+     *
+     * @param nodeCount is a number of nodes of the network
+     */
+    BasisTree(int nodeCount) {
+        this.nodeCount = nodeCount;
+
+        int maxEdges = Math.max(nodeCount - 1, 0);
+        tail = new int[maxEdges];
+        head = new int[maxEdges];
+        cost = new long[maxEdges];
+        flow = new long[maxEdges];
+        id = new int[maxEdges];
+
+        firstHalf = new int[nodeCount];
+        nextHalf = new int[2 * maxEdges];
+        prevHalf = new int[2 * maxEdges];
+        Arrays.fill(firstHalf, -1);
+
+        parent = new int[nodeCount];
+        pred = new int[nodeCount];
+        depth = new int[nodeCount];
+        potential = new long[nodeCount];
+        stack = new int[nodeCount];
+    }
+
+    /**
+     * Method for adding an edge to the basis before it is built
+     *
+     * @param tail is a node the arc goes from
+     * @param head is a node the arc goes to
+     * @param cost is a cost of a unit of flow along the arc
+     * @param flow is a current flow along the arc
+     * @param id is an identifier of the arc, reported back by getId
+     */
+    void addEdge(int tail, int head, long cost, long flow, int id) {
+        if (edgeCount == this.tail.length)
+            throw new IllegalStateException("Basis already has " + edgeCount + " edges.");
+
+        setEdge(edgeCount++, tail, head, cost, flow, id);
+    }
+
+    /**
+     * Method for computing parents, depths and potentials of all nodes, the potential of the root is 0
+     *
+     * @param root is a root node of the tree
+     */
+    void build(int root) {
+        if (edgeCount != nodeCount - 1)
+            throw new IllegalStateException("Basis must have exactly " + (nodeCount - 1) + " edges.");
+
+        Arrays.fill(depth, -1);
+        parent[root] = -1;
+        pred[root] = -1;
+        depth[root] = 0;
+        potential[root] = 0;
+
+        if (relabel(root) != nodeCount)
+            throw new IllegalStateException("Basis edges do not form a spanning tree.");
+    }
+
+    /**
+     * @return reduced cost of an arc, it is 0 for every arc of the basis
+     */
+    long reducedCost(int tail, int head, long cost) {
+        return cost + potential[tail] - potential[head];
+    }
+
+    /**
+     * Method for bringing an arc into the basis: the flow is pushed around the cycle the arc closes
+     * and the blocking arc leaves. Among several blocking arcs the last one met when walking the cycle
+     * from its top in the direction of the entering arc is chosen, which prevents cycling on
+     * strongly feasible trees
+     *
+     * @param inTail is a node the entering arc goes from
+     * @param inHead is a node the entering arc goes to
+     * @param inCost is a cost of the entering arc
+     * @param inId is an identifier of the entering arc
+     * @return the amount of flow pushed around the cycle
+     */
+    long pivot(int inTail, int inHead, long inCost, int inId) {
+        int join = findJoin(inTail, inHead);
+
+        // Walking from inTail up, the cycle runs parent -> node, arcs pointing to the parent lose flow
+        long delta = Long.MAX_VALUE;
+        int outNode = -1;
+        boolean outOnTailSide = false;
+        for (int u = inTail; u != join; u = parent[u]) {
+            int e = pred[u];
+            if (tail[e] == u && flow[e] < delta) {
+                delta = flow[e];
+                outNode = u;
+                outOnTailSide = true;
+            }
+        }
+
+        // Walking from inHead up, the cycle runs node -> parent, arcs pointing from the parent lose flow
+        for (int u = inHead; u != join; u = parent[u]) {
+            int e = pred[u];
+            if (head[e] == u && flow[e] <= delta) {
+                delta = flow[e];
+                outNode = u;
+                outOnTailSide = false;
+            }
+        }
+
+        if (outNode == -1)
+            throw new IllegalStateException("The problem is unbounded.");
+
+        if (delta > 0) {
+            for (int u = inTail; u != join; u = parent[u]) {
+                int e = pred[u];
+                flow[e] += tail[e] == u ? -delta : delta;
+            }
+            for (int u = inHead; u != join; u = parent[u]) {
+                int e = pred[u];
+                flow[e] += head[e] == u ? -delta : delta;
+            }
+        }
+
+        // The leaving edge's slot is reused by the entering one, the cut-off subtree is hung on the entering arc
+        int slot = pred[outNode];
+        unlink(slot);
+        setEdge(slot, inTail, inHead, inCost, delta, inId);
+
+        int subtreeRoot = outOnTailSide ? inTail : inHead;
+        int newParent = outOnTailSide ? inHead : inTail;
+        parent[subtreeRoot] = newParent;
+        pred[subtreeRoot] = slot;
+        depth[subtreeRoot] = depth[newParent] + 1;
+        potential[subtreeRoot] = outOnTailSide ? potential[inHead] - inCost : potential[inTail] + inCost;
+        relabel(subtreeRoot);
+
+        return delta;
+    }
+
+    int getNodeCount() {
+        return nodeCount;
+    }
+
+    int getEdgeCount() {
+        return edgeCount;
+    }
+
+    int getTail(int edge) {
+        return tail[edge];
+    }
+
+    int getHead(int edge) {
+        return head[edge];
+    }
+
+    long getFlow(int edge) {
+        return flow[edge];
+    }
+
+    int getId(int edge) {
+        return id[edge];
+    }
+
+    long getPotential(int node) {
+        return potential[node];
+    }
+
+    private int findJoin(int u, int v) {
+        while (u != v) {
+            if (depth[u] >= depth[v]) u = parent[u];
+            else v = parent[v];
+        }
+        return u;
+    }
+
+    /**
+     * Method for recomputing parents, depths and potentials below a node whose own labels are already correct
+     *
+     * @param start is a top node of the subtree
+     * @return a number of nodes in the subtree
+     */
+    private int relabel(int start) {
+        int size = 0;
+        int top = 0;
+        stack[top++] = start;
+
+        while (top > 0) {
+            int node = stack[--top];
+            size++;
+
+            for (int half = firstHalf[node]; half != -1; half = nextHalf[half]) {
+                int e = half >> 1;
+                if (e == pred[node]) continue;
+
+                int next = (half & 1) == 0 ? head[e] : tail[e];
+                if (size + top >= nodeCount)
+                    throw new IllegalStateException("Basis edges contain a cycle.");
+
+                parent[next] = node;
+                pred[next] = e;
+                depth[next] = depth[node] + 1;
+                potential[next] = (half & 1) == 0 ? potential[node] + cost[e] : potential[node] - cost[e];
+                stack[top++] = next;
+            }
+        }
+
+        return size;
+    }
+
+    private void setEdge(int e, int tail, int head, long cost, long flow, int id) {
+        this.tail[e] = tail;
+        this.head[e] = head;
+        this.cost[e] = cost;
+        this.flow[e] = flow;
+        this.id[e] = id;
+        link(2 * e, tail);
+        link(2 * e + 1, head);
+    }
+
+    private void link(int half, int node) {
+        prevHalf[half] = -1;
+        nextHalf[half] = firstHalf[node];
+        if (firstHalf[node] != -1) prevHalf[firstHalf[node]] = half;
+        firstHalf[node] = half;
+    }
+
+    private void unlink(int e) {
+        unlink(2 * e, tail[e]);
+        unlink(2 * e + 1, head[e]);
+    }
+
+    private void unlink(int half, int node) {
+        if (prevHalf[half] != -1) nextHalf[prevHalf[half]] = nextHalf[half];
+        else firstHalf[node] = nextHalf[half];
+        if (nextHalf[half] != -1) prevHalf[nextHalf[half]] = prevHalf[half];
+    }
+}
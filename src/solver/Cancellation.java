@@ -0,0 +1,20 @@
+package solver;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Check the long-running loops of the algorithms make once per step, so a solve running on a thread
+ * that was interrupted (e.g. by cancelling its future) stops within one step instead of running to the end
+ */
+final class Cancellation {
+    private Cancellation() {
+    }
+
+    /**
+     * @throws CancellationException if the current thread is interrupted, the interrupt flag is kept
+     */
+    static void check() {
+        if (Thread.currentThread().isInterrupted())
+            throw new CancellationException("Solve interrupted.");
+    }
+}
@@ -0,0 +1,146 @@
+package solver;
+
+import structures.CellMask;
+import structures.Matrix;
+import structures.Vector;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Cells of every row and every column of a matrix of costs sorted by cost, ties broken towards the smaller index.
+ * Building takes O(m * n * log) once, afterwards the cheapest remaining cell of a line is found by moving a cursor
+ * past the eliminated cells. The index is bound to the matrix it was built for and may be reused by any number
+ * of solves and algorithms as long as the matrix is not changed. Building stops with a CancellationException
+ * once the building thread is interrupted
+ */
+public final class CostIndex {
+    private final Matrix costs;
+    private final int rows;
+    private final int cols;
+
+    // Column indices of row i sorted by cost are rowOrder[i * cols, (i + 1) * cols),
+    // row indices of column j sorted by cost are colOrder[j * rows, (j + 1) * rows)
+    private final int[] rowOrder;
+    private final int[] colOrder;
+
+    private CostIndex(Matrix costs) {
+        this.costs = costs;
+        this.rows = costs.getNumberOfRows();
+        this.cols = costs.getNumberOfColumns();
+        this.rowOrder = new int[rows * cols];
+        this.colOrder = new int[cols * rows];
+    }
+
+    /**
+     * Method for building the index on the calling thread
+     *
+     * @param costs is a matrix of costs
+     * @return an index of the matrix
+     */
+    public static CostIndex build(Matrix costs) {
+        return build(costs, null);
+    }
+
+    /**
+     * Method for building the index, rows and columns are sorted in parallel
+     *
+     * @param costs is a matrix of costs
+     * @param pool is a pool the lines are sorted on, or null for the calling thread
+     * @return an index of the matrix
+     */
+    public static CostIndex build(Matrix costs, ForkJoinPool pool) {
+        CostIndex index = new CostIndex(costs);
+        int rows = index.rows;
+        int cols = index.cols;
+
+        ParallelScan.forEachRange(pool, rows, cols, ParallelScan.defaultThreshold, (from, to) -> {
+            long[] keys = new long[cols];
+            for (int i = from; i < to; i++) {
+                Cancellation.check();
+                sortLine(costs.getRowView(i), keys, index.rowOrder, i * cols);
+            }
+        });
+        ParallelScan.forEachRange(pool, cols, rows, ParallelScan.defaultThreshold, (from, to) -> {
+            long[] keys = new long[rows];
+            for (int j = from; j < to; j++) {
+                Cancellation.check();
+                sortLine(costs.getColumnView(j), keys, index.colOrder, j * rows);
+            }
+        });
+
+        return index;
+    }
+
+    /**
+     * @return true if the index was built for this very matrix
+     */
+    public boolean isBuiltFor(Matrix costs) {
+        return this.costs == costs;
+    }
+
+    public Matrix getCosts() {
+        return costs;
+    }
+
+    /**
+     * @param row is an index of the row
+     * @param rank is a position in the row sorted by cost, 0 is the cheapest cell
+     * @return a column index of the cell
+     */
+    public int getRowCell(int row, int rank) {
+        return rowOrder[row * cols + rank];
+    }
+
+    /**
+     * @param col is an index of the column
+     * @param rank is a position in the column sorted by cost, 0 is the cheapest cell
+     * @return a row index of the cell
+     */
+    public int getColumnCell(int col, int rank) {
+        return colOrder[col * rows + rank];
+    }
+
+    /**
+     * Method for moving a cursor of a row to its cheapest active cell. Eliminated cells never become active again,
+     * so a cursor only moves forward and all moves of a row take O(n) per solve
+     *
+     * @param row is an index of the row
+     * @param rank is a current position of the cursor
+     * @param mask is a mask of the running solve
+     * @return the position of the cheapest active cell, or n if the row has none
+     */
+    public int nextActiveInRow(int row, int rank, CellMask mask) {
+        int base = row * cols;
+        while (rank < cols && !mask.isActive(row, rowOrder[base + rank])) rank++;
+        return rank;
+    }
+
+    /**
+     * Method for moving a cursor of a column to its cheapest active cell
+     *
+     * @param col is an index of the column
+     * @param rank is a current position of the cursor
+     * @param mask is a mask of the running solve
+     * @return the position of the cheapest active cell, or m if the column has none
+     */
+    public int nextActiveInColumn(int col, int rank, CellMask mask) {
+        int base = col * rows;
+        while (rank < rows && !mask.isActive(colOrder[base + rank], col)) rank++;
+        return rank;
+    }
+
+    private static void sortLine(Vector line, long[] keys, int[] order, int offset) {
+        int length = keys.length;
+        for (int k = 0; k < length; k++) keys[k] = sortKey(line.get(k), k);
+        Arrays.sort(keys);
+        for (int k = 0; k < length; k++) order[offset + k] = (int) keys[k];
+    }
+
+    /**
+     * Key that orders cells by cost and then by index, so ties are broken towards the smaller index
+     */
+    private static long sortKey(int cost, int index) {
+        return ((long) cost << 32) | index;
+    }
+}
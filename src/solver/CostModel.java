@@ -0,0 +1,250 @@
+package solver;
+
+import structures.Matrix;
+import structures.Vector;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Matrix of costs shared by all solves of a problem together with data derived from it.
+ * The model takes the matrix over: it is never copied and must not be changed afterwards,
+ * so derived data computed once stays valid for every algorithm and every solve.
+ * Derived data is computed on first use and cached up to a memory budget, the least recently used
+ * entries are evicted first and data larger than the whole budget is computed but not kept.
+ * All methods may be called from several threads at once
+ */
+public final class CostModel {
+    /**
+     * Budget used when none is given, a quarter of the maximum heap
+     */
+    public static final long defaultBudget = Runtime.getRuntime().maxMemory() / 4;
+
+    private static final String rowStatistics = "rowStatistics";
+    private static final String columnStatistics = "columnStatistics";
+    private static final String index = "index";
+
+    private final Matrix costs;
+    private final long budget;
+
+    // Entries in access order, the eldest is evicted first
+    private final Map<String, Entry> cache = new LinkedHashMap<>(4, 0.75f, true);
+    private long used;
+
+    private CostModel(Matrix costs, long budget) {
+        this.costs = costs;
+        this.budget = budget;
+    }
+
+    /**
+     * @param costs is a matrix of costs, it must not be changed once the model is built
+     * @return a model of the matrix with the default budget
+     */
+    public static CostModel of(Matrix costs) {
+        return of(costs, defaultBudget);
+    }
+
+    /**
+     * @param costs is a matrix of costs, it must not be changed once the model is built
+     * @param budget is a number of bytes the cached derived data may take
+     * @return a model of the matrix
+     */
+    public static CostModel of(Matrix costs, long budget) {
+        if (budget < 0)
+            throw new IllegalArgumentException("Budget must not be negative.");
+        return new CostModel(costs, budget);
+    }
+
+    public Matrix getCosts() {
+        return costs;
+    }
+
+    public int getNumberOfRows() {
+        return costs.getNumberOfRows();
+    }
+
+    public int getNumberOfColumns() {
+        return costs.getNumberOfColumns();
+    }
+
+    /**
+     * @return minimums, second minimums and maximums of all rows
+     */
+    public LineStatistics getRowStatistics() {
+        LineStatistics cached = (LineStatistics) lookup(rowStatistics);
+        if (cached != null) return cached;
+
+        LineStatistics statistics = new LineStatistics(costs.getNumberOfRows());
+        for (int i = 0; i < costs.getNumberOfRows(); i++)
+            statistics.scan(i, costs.getRowView(i));
+        return (LineStatistics) keep(rowStatistics, statistics, statistics.bytes());
+    }
+
+    /**
+     * @return minimums, second minimums and maximums of all columns
+     */
+    public LineStatistics getColumnStatistics() {
+        LineStatistics cached = (LineStatistics) lookup(columnStatistics);
+        if (cached != null) return cached;
+
+        LineStatistics statistics = new LineStatistics(costs.getNumberOfColumns());
+        for (int j = 0; j < costs.getNumberOfColumns(); j++)
+            statistics.scan(j, costs.getColumnView(j));
+        return (LineStatistics) keep(columnStatistics, statistics, statistics.bytes());
+    }
+
+    /**
+     * Method for getting the index of rows and columns sorted by cost, it takes 8 bytes per cell
+     *
+     * @param pool is a pool the lines are sorted on if the index is not cached, or null for the calling thread
+     * @return an index of the matrix
+     */
+    public CostIndex getIndex(ForkJoinPool pool) {
+        CostIndex cached = (CostIndex) lookup(index);
+        if (cached != null) return cached;
+
+        // Sorting is not done under the lock, threads asking at once may sort twice but never wait for each other
+        CostIndex built = CostIndex.build(costs, pool);
+        return (CostIndex) keep(index, built, 8L * costs.getNumberOfRows() * costs.getNumberOfColumns());
+    }
+
+    /**
+     * @return the index if it is cached, otherwise null; nothing is computed
+     */
+    public CostIndex getCachedIndex() {
+        return (CostIndex) lookup(index);
+    }
+
+    /**
+     * @return a number of bytes taken by the cached derived data
+     */
+    public synchronized long getUsedBytes() {
+        return used;
+    }
+
+    /**
+     * Method for dropping all cached derived data
+     */
+    public synchronized void evictAll() {
+        cache.clear();
+        used = 0;
+    }
+
+    private synchronized Object lookup(String key) {
+        Entry entry = cache.get(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Method for caching a computed value, another thread may have cached the same key meanwhile and its value wins
+     *
+     * @return the cached value of the key
+     */
+    private synchronized Object keep(String key, Object value, long bytes) {
+        Entry present = cache.get(key);
+        if (present != null) return present.value;
+        if (bytes > budget) return value;
+
+        Iterator<Entry> eldest = cache.values().iterator();
+        while (used + bytes > budget) {
+            used -= eldest.next().bytes;
+            eldest.remove();
+        }
+
+        cache.put(key, new Entry(value, bytes));
+        used += bytes;
+        return value;
+    }
+
+    private static final class Entry {
+        final Object value;
+        final long bytes;
+
+        Entry(Object value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Minimums and maximums of every row or every column, found the same way the approximation methods scan a line:
+     * the first index of the minimum and of the maximum is kept and a repeated minimum is also the second minimum
+     */
+    public static final class LineStatistics {
+        private final int[] min;
+        private final int[] minIndex;
+        private final int[] secondMin;
+        private final int[] max;
+        private final int[] maxIndex;
+
+        private LineStatistics(int lines) {
+            min = new int[lines];
+            minIndex = new int[lines];
+            secondMin = new int[lines];
+            max = new int[lines];
+            maxIndex = new int[lines];
+        }
+
+        private void scan(int line, Vector values) {
+            int lineMin = Integer.MAX_VALUE;
+            int lineMinIndex = -1;
+            int lineSecondMin = Integer.MAX_VALUE;
+            int lineMax = Integer.MIN_VALUE;
+            int lineMaxIndex = -1;
+
+            for (int k = 0; k < values.getLength(); k++) {
+                int value = values.get(k);
+                if (value < lineMin) {
+                    lineSecondMin = lineMin;
+                    lineMin = value;
+                    lineMinIndex = k;
+                } else if (value < lineSecondMin) {
+                    lineSecondMin = value;
+                }
+                if (value > lineMax) {
+                    lineMax = value;
+                    lineMaxIndex = k;
+                }
+            }
+
+            min[line] = lineMin;
+            minIndex[line] = lineMinIndex;
+            secondMin[line] = lineSecondMin;
+            max[line] = lineMax;
+            maxIndex[line] = lineMaxIndex;
+        }
+
+        private long bytes() {
+            return 20L * min.length;
+        }
+
+        public int getLength() {
+            return min.length;
+        }
+
+        public int getMin(int line) {
+            return min[line];
+        }
+
+        public int getMinIndex(int line) {
+            return minIndex[line];
+        }
+
+        /**
+         * @return the second smallest value of the line, Integer.MAX_VALUE if it has a single item
+         */
+        public int getSecondMin(int line) {
+            return secondMin[line];
+        }
+
+        public int getMax(int line) {
+            return max[line];
+        }
+
+        public int getMaxIndex(int line) {
+            return maxIndex[line];
+        }
+    }
+}
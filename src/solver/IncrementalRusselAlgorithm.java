@@ -0,0 +1,215 @@
+package solver;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+import structures.Vector;
+
+/**
+ * Class for Russel's Approximation that allocates nothing per iteration.
+ * Maximums of rows and columns are cached and recomputed only when the eliminated line held them,
+ * the most negative reduced cost is found by scanning the remaining cells directly.
+ * Unlike RusselAlgorithm, the maximums are taken over the remaining cells only, so the two may return different plans
+ */
+public class IncrementalRusselAlgorithm implements Algorithm {
+    private static final String name = "IncrementalRusselAlgorithm";
+
+    private SolveListener listener = SolveListener.disabled;
+
+    @Override
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Method for solving the problem using Russel's Approximation.
+     * Exactly one row or column is eliminated per allocation, so the result has m + n - 1 basic cells
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, Matrix costs) {
+        return solve(supply, demand, costs, null, null);
+    }
+
+    /**
+     * Method for solving the problem using Russel's Approximation on a shared cost model,
+     * the first maximums of rows and columns are the cached ones of the model
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, CostModel model) {
+        return solve(supply, demand, model.getCosts(), model.getRowStatistics(), model.getColumnStatistics());
+    }
+
+    /**
+     * @param rowStatistics are statistics of the rows, or null to scan them
+     * @param colStatistics are statistics of the columns, or null to scan them
+     */
+    private Plan solve(LongVector supply, LongVector demand, Matrix costs,
+                       CostModel.LineStatistics rowStatistics, CostModel.LineStatistics colStatistics) {
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+        Plan answer = PlanFactory.createEmptyPlan(rows, cols);
+
+        boolean timed = listener.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        listener.solveStarted(name, rows, cols);
+
+        // Remaining rows and columns are kept in increasing order, so ties are broken as in RusselAlgorithm
+        int[] activeRows = new int[rows];
+        int[] activeCols = new int[cols];
+        int activeRowCount = rows;
+        int activeColCount = cols;
+        for (int i = 0; i < rows; i++) activeRows[i] = i;
+        for (int j = 0; j < cols; j++) activeCols[j] = j;
+
+        // Views of the lines are made once per solve, so the iterations do not create any
+        Vector[] rowLines = new Vector[rows];
+        Vector[] colLines = new Vector[cols];
+        for (int i = 0; i < rows; i++) rowLines[i] = costs.getRowView(i);
+        for (int j = 0; j < cols; j++) colLines[j] = costs.getColumnView(j);
+
+        int[] rowMax = new int[rows];
+        int[] rowMaxIndex = new int[rows];
+        int[] colMax = new int[cols];
+        int[] colMaxIndex = new int[cols];
+        if (rowStatistics != null) {
+            for (int i = 0; i < rows; i++) {
+                rowMax[i] = rowStatistics.getMax(i);
+                rowMaxIndex[i] = rowStatistics.getMaxIndex(i);
+            }
+            for (int j = 0; j < cols; j++) {
+                colMax[j] = colStatistics.getMax(j);
+                colMaxIndex[j] = colStatistics.getMaxIndex(j);
+            }
+        } else {
+            for (int i = 0; i < rows; i++) updateRowMax(rowLines[i], i, activeCols, activeColCount, rowMax, rowMaxIndex);
+            for (int j = 0; j < cols; j++) updateColumnMax(colLines[j], j, activeRows, activeRowCount, colMax, colMaxIndex);
+        }
+
+        long phaseStart = timed ? System.nanoTime() : 0;
+        if (timed) listener.phaseFinished(name, "maximums", phaseStart - start);
+
+        int step = 0;
+        for (; step < rows + cols - 1; step++) {
+            Cancellation.check();
+            int bestRow = -1;
+            int bestCol = -1;
+            long best = Long.MAX_VALUE;
+
+            for (int a = 0; a < activeRowCount; a++) {
+                int i = activeRows[a];
+                Vector row = rowLines[i];
+                long u = rowMax[i];
+                for (int b = 0; b < activeColCount; b++) {
+                    int j = activeCols[b];
+                    long score = row.get(j) - u - colMax[j];
+                    if (score < best) {
+                        best = score;
+                        bestRow = i;
+                        bestCol = j;
+                    }
+                }
+            }
+
+            if (bestRow == -1) break;
+
+            long allocate = Math.min(supply.get(bestRow), demand.get(bestCol));
+            supply.set(bestRow, supply.get(bestRow) - allocate);
+            demand.set(bestCol, demand.get(bestCol) - allocate);
+            answer.add(bestRow, bestCol, allocate);
+            listener.allocated(name, bestRow, bestCol, allocate, supply.get(bestRow) == 0 && demand.get(bestCol) == 0);
+
+            if (timed) {
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "selection", now - phaseStart);
+                phaseStart = now;
+            }
+
+            if (supply.get(bestRow) == 0) {
+                activeRowCount = remove(activeRows, activeRowCount, bestRow);
+                for (int b = 0; b < activeColCount; b++) {
+                    int j = activeCols[b];
+                    if (colMaxIndex[j] == bestRow)
+                        updateColumnMax(colLines[j], j, activeRows, activeRowCount, colMax, colMaxIndex);
+                }
+            } else {
+                activeColCount = remove(activeCols, activeColCount, bestCol);
+                for (int a = 0; a < activeRowCount; a++) {
+                    int i = activeRows[a];
+                    if (rowMaxIndex[i] == bestCol)
+                        updateRowMax(rowLines[i], i, activeCols, activeColCount, rowMax, rowMaxIndex);
+                }
+            }
+
+            if (timed) {
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "maximums", now - phaseStart);
+                phaseStart = now;
+            }
+        }
+
+        if (timed) listener.solveFinished(name, step, answer.getTotalCost(costs), System.nanoTime() - start);
+        return answer;
+    }
+
+    /**
+     * Method for recomputing the maximum of a row over the remaining columns
+     */
+    private static void updateRowMax(Vector line, int row, int[] activeCols, int activeColCount, int[] rowMax, int[] rowMaxIndex) {
+        int max = Integer.MIN_VALUE;
+        int maxIndex = -1;
+
+        for (int b = 0; b < activeColCount; b++) {
+            int value = line.get(activeCols[b]);
+            if (value > max) {
+                max = value;
+                maxIndex = activeCols[b];
+            }
+        }
+
+        rowMax[row] = max;
+        rowMaxIndex[row] = maxIndex;
+    }
+
+    /**
+     * Method for recomputing the maximum of a column over the remaining rows
+     */
+    private static void updateColumnMax(Vector line, int col, int[] activeRows, int activeRowCount, int[] colMax, int[] colMaxIndex) {
+        int max = Integer.MIN_VALUE;
+        int maxIndex = -1;
+
+        for (int a = 0; a < activeRowCount; a++) {
+            int value = line.get(activeRows[a]);
+            if (value > max) {
+                max = value;
+                maxIndex = activeRows[a];
+            }
+        }
+
+        colMax[col] = max;
+        colMaxIndex[col] = maxIndex;
+    }
+
+    /**
+     * Method for removing an index from a sorted list of remaining lines keeping the order
+     *
+     * @return the new number of remaining lines
+     */
+    private static int remove(int[] lines, int count, int line) {
+        int position = 0;
+        while (lines[position] != line) position++;
+
+        System.arraycopy(lines, position + 1, lines, position, count - position - 1);
+        return count - 1;
+    }
+}
@@ -0,0 +1,235 @@
+package solver;
+
+import structures.CellMask;
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class for Vogel's Approximation that keeps the penalties of rows and columns up to date
+ * instead of recomputing them from scratch on every allocation.
+ * Cells of every row and every column are sorted by cost once, so the two cheapest remaining
+ * cells of a line are found by moving two cursors past the eliminated lines.
+ * The sorted orders are kept in a {@link CostIndex} which is reused while the matrix of costs stays the same
+ */
+public class IncrementalVogelAlgorithm implements Algorithm {
+    private static final String name = "IncrementalVogelAlgorithm";
+
+    private int rows;
+    private int cols;
+    private Matrix costs;
+
+    private final ForkJoinPool pool;
+    private CostIndex index;
+    private int[] rowFirst;
+    private int[] rowSecond;
+    private int[] colFirst;
+    private int[] colSecond;
+    private long[] rowPenalty;
+    private long[] colPenalty;
+    private CellMask mask;
+
+    private SolveListener listener = SolveListener.disabled;
+
+    /**
+     * Constructor of the algorithm sorting the lines on the calling thread
+     */
+    public IncrementalVogelAlgorithm() {
+        this((ForkJoinPool) null);
+    }
+
+    /**
+     * @param pool is a pool the lines of a new matrix of costs are sorted on, or null for the calling thread
+     */
+    public IncrementalVogelAlgorithm(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Constructor of the algorithm starting with an index built beforehand, solves on its matrix do not sort
+     *
+     * @param index is an index of the matrix of costs
+     */
+    public IncrementalVogelAlgorithm(CostIndex index) {
+        this.pool = null;
+        this.index = index;
+    }
+
+    @Override
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Method for solving the problem using Vogel's Approximation.
+     * Exactly one row or column is eliminated per allocation, so the result has m + n - 1 basic cells
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, Matrix costs) {
+        boolean timed = listener.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        listener.solveStarted(name, costs.getNumberOfRows(), costs.getNumberOfColumns());
+
+        init(costs);
+        Plan answer = PlanFactory.createEmptyPlan(rows, cols);
+
+        for (int i = 0; i < rows; i++) updateRowPenalty(i);
+        for (int j = 0; j < cols; j++) updateColumnPenalty(j);
+
+        long phaseStart = timed ? System.nanoTime() : 0;
+        if (timed) listener.phaseFinished(name, "sort", phaseStart - start);
+
+        int step = 0;
+        for (; step < rows + cols - 1; step++) {
+            Cancellation.check();
+            int maxRow = -1;
+            for (int i = 0; i < rows; i++)
+                if (mask.isRowActive(i) && (maxRow == -1 || rowPenalty[i] > rowPenalty[maxRow])) maxRow = i;
+
+            int maxCol = -1;
+            for (int j = 0; j < cols; j++)
+                if (mask.isColumnActive(j) && (maxCol == -1 || colPenalty[j] > colPenalty[maxCol])) maxCol = j;
+
+            if (maxRow == -1 || maxCol == -1) break;
+
+            int row;
+            int col;
+            if (rowPenalty[maxRow] > colPenalty[maxCol]) {
+                row = maxRow;
+                col = index.getRowCell(row, rowFirst[row]);
+            } else {
+                col = maxCol;
+                row = index.getColumnCell(col, colFirst[col]);
+            }
+
+            long allocate = Math.min(supply.get(row), demand.get(col));
+            supply.set(row, supply.get(row) - allocate);
+            demand.set(col, demand.get(col) - allocate);
+            answer.add(row, col, allocate);
+            listener.allocated(name, row, col, allocate, supply.get(row) == 0 && demand.get(col) == 0);
+
+            if (timed) {
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "selection", now - phaseStart);
+                phaseStart = now;
+            }
+
+            if (supply.get(row) == 0) eliminateRow(row);
+            else eliminateColumn(col);
+
+            if (timed) {
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "penalties", now - phaseStart);
+                phaseStart = now;
+            }
+        }
+
+        if (timed) listener.solveFinished(name, step, answer.getTotalCost(costs), System.nanoTime() - start);
+        return answer;
+    }
+
+    /**
+     * Method for solving the problem using Vogel's Approximation on a shared cost model,
+     * the sorted orders are the index of the model, so they are built once for all algorithms using it
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, CostModel model) {
+        if (index == null || !index.isBuiltFor(model.getCosts()))
+            index = model.getIndex(pool);
+        return solve(supply, demand, model.getCosts());
+    }
+
+    /**
+     * Method for preparing a solve, the lines are sorted only if the index of the last solve is of another matrix
+     *
+     * @param costs is a matrix of costs
+     */
+    private void init(Matrix costs) {
+        this.costs = costs;
+        rows = costs.getNumberOfRows();
+        cols = costs.getNumberOfColumns();
+
+        if (index == null || !index.isBuiltFor(costs))
+            index = CostIndex.build(costs, pool);
+
+        rowFirst = new int[rows];
+        rowSecond = new int[rows];
+        colFirst = new int[cols];
+        colSecond = new int[cols];
+        rowPenalty = new long[rows];
+        colPenalty = new long[cols];
+        mask = new CellMask(rows, cols);
+    }
+
+    private void eliminateRow(int row) {
+        mask.eliminateRow(row);
+
+        for (int j = 0; j < cols; j++) {
+            if (!mask.isColumnActive(j)) continue;
+            if ((colFirst[j] < rows && index.getColumnCell(j, colFirst[j]) == row) || (colSecond[j] < rows && index.getColumnCell(j, colSecond[j]) == row))
+                updateColumnPenalty(j);
+        }
+    }
+
+    private void eliminateColumn(int col) {
+        mask.eliminateColumn(col);
+
+        for (int i = 0; i < rows; i++) {
+            if (!mask.isRowActive(i)) continue;
+            if ((rowFirst[i] < cols && index.getRowCell(i, rowFirst[i]) == col) || (rowSecond[i] < cols && index.getRowCell(i, rowSecond[i]) == col))
+                updateRowPenalty(i);
+        }
+    }
+
+    /**
+     * Method for moving the cursors of a row to its two cheapest remaining cells and updating its penalty.
+     * Cursors only move forward, so all updates of a row take O(n) in total
+     *
+     * @param row is an index of the row
+     */
+    private void updateRowPenalty(int row) {
+        int first = index.nextActiveInRow(row, rowFirst[row], mask);
+        int second = index.nextActiveInRow(row, Math.max(rowSecond[row], first + 1), mask);
+
+        rowFirst[row] = first;
+        rowSecond[row] = second;
+        rowPenalty[row] = penalty(first < cols ? costs.getItem(row, index.getRowCell(row, first)) : Integer.MAX_VALUE,
+                second < cols ? costs.getItem(row, index.getRowCell(row, second)) : Integer.MAX_VALUE);
+    }
+
+    /**
+     * Method for moving the cursors of a column to its two cheapest remaining cells and updating its penalty
+     *
+     * @param col is an index of the column
+     */
+    private void updateColumnPenalty(int col) {
+        int first = index.nextActiveInColumn(col, colFirst[col], mask);
+        int second = index.nextActiveInColumn(col, Math.max(colSecond[col], first + 1), mask);
+
+        colFirst[col] = first;
+        colSecond[col] = second;
+        colPenalty[col] = penalty(first < rows ? costs.getItem(index.getColumnCell(col, first), col) : Integer.MAX_VALUE,
+                second < rows ? costs.getItem(index.getColumnCell(col, second), col) : Integer.MAX_VALUE);
+    }
+
+    /**
+     * Penalty is the difference between the two smallest costs, a line with a single cell left
+     * gets the same huge penalty as in VogelAlgorithm
+     */
+    private static long penalty(int min, int secondMin) {
+        return (long) secondMin - min;
+    }
+}
@@ -0,0 +1,141 @@
+package solver;
+
+import structures.CellMask;
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class for the Least Cost method: every step allocates as much as possible to the cheapest remaining cell.
+ * The cheapest remaining cell of every row is kept under a cursor of a {@link CostIndex},
+ * so a step compares m cursors instead of scanning the whole table.
+ * The index is reused while the matrix of costs stays the same
+ */
+public class LeastCostAlgorithm implements Algorithm {
+    private static final String name = "LeastCostAlgorithm";
+
+    private final ForkJoinPool pool;
+    private CostIndex index;
+    private SolveListener listener = SolveListener.disabled;
+
+    /**
+     * Constructor of the algorithm sorting the lines on the calling thread
+     */
+    public LeastCostAlgorithm() {
+        this((ForkJoinPool) null);
+    }
+
+    /**
+     * @param pool is a pool the lines of a new matrix of costs are sorted on, or null for the calling thread
+     */
+    public LeastCostAlgorithm(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Constructor of the algorithm starting with an index built beforehand, solves on its matrix do not sort
+     *
+     * @param index is an index of the matrix of costs
+     */
+    public LeastCostAlgorithm(CostIndex index) {
+        this.pool = null;
+        this.index = index;
+    }
+
+    @Override
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Method for solving the problem using the Least Cost method on a shared cost model,
+     * the sorted orders are the index of the model, so they are built once for all algorithms using it
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, CostModel model) {
+        if (index == null || !index.isBuiltFor(model.getCosts()))
+            index = model.getIndex(pool);
+        return solve(supply, demand, model.getCosts());
+    }
+
+    /**
+     * Method for solving the problem using the Least Cost method.
+     * Ties are broken towards the smaller row and then the smaller column.
+     * Exactly one row or column is eliminated per allocation, so the result has at most m + n - 1 basic cells
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, Matrix costs) {
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+
+        boolean timed = listener.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        listener.solveStarted(name, rows, cols);
+
+        if (index == null || !index.isBuiltFor(costs))
+            index = CostIndex.build(costs, pool);
+
+        long phaseStart = timed ? System.nanoTime() : 0;
+        if (timed) listener.phaseFinished(name, "sort", phaseStart - start);
+
+        Plan answer = PlanFactory.createEmptyPlan(rows, cols);
+        CellMask mask = new CellMask(rows, cols);
+        int[] rowCursor = new int[rows];
+
+        int step = 0;
+        for (; step < rows + cols - 1; step++) {
+            Cancellation.check();
+            int bestRow = -1;
+            int bestCol = -1;
+            int best = 0;
+
+            for (int i = 0; i < rows; i++) {
+                if (!mask.isRowActive(i)) continue;
+
+                rowCursor[i] = index.nextActiveInRow(i, rowCursor[i], mask);
+                if (rowCursor[i] == cols) continue;
+
+                int j = index.getRowCell(i, rowCursor[i]);
+                int cost = costs.getItem(i, j);
+                if (bestRow == -1 || cost < best) {
+                    best = cost;
+                    bestRow = i;
+                    bestCol = j;
+                }
+            }
+
+            if (bestRow == -1) break;
+
+            long allocate = Math.min(supply.get(bestRow), demand.get(bestCol));
+            supply.set(bestRow, supply.get(bestRow) - allocate);
+            demand.set(bestCol, demand.get(bestCol) - allocate);
+            answer.add(bestRow, bestCol, allocate);
+            listener.allocated(name, bestRow, bestCol, allocate, supply.get(bestRow) == 0 && demand.get(bestCol) == 0);
+
+            if (supply.get(bestRow) == 0) mask.eliminateRow(bestRow);
+            else mask.eliminateColumn(bestCol);
+
+            if (timed) {
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "selection", now - phaseStart);
+                phaseStart = now;
+            }
+        }
+
+        if (timed) listener.solveFinished(name, step, answer.getTotalCost(costs), System.nanoTime() - start);
+        return answer;
+    }
+}
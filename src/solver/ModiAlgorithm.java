@@ -0,0 +1,241 @@
+package solver;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+
+/**
+ * Class for the MODI (u-v potentials) method: an initial basic feasible solution of another algorithm
+ * is improved to an optimal one with stepping-stone pivots of the transportation simplex
+ */
+public class ModiAlgorithm implements Algorithm {
+    private static final String name = "ModiAlgorithm";
+
+    private final Algorithm initial;
+    private int iterations;
+    private SolveListener listener = SolveListener.disabled;
+
+    /**
+     * @param initial is an algorithm used for finding the initial basic feasible solution
+     */
+    public ModiAlgorithm(Algorithm initial) {
+        this.initial = initial;
+    }
+
+    /**
+     * Method for setting the listener of this method and of the algorithm of its initial solution
+     *
+     * @param listener is a listener of solve events
+     */
+    @Override
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+        initial.setListener(listener);
+    }
+
+    /**
+     * Method for solving the problem using the MODI method.
+     * Row i is node i and column j is node m + j of the basis tree, a basic cell is an arc from its row to its column
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return an optimal solution plan of m + n - 1 basic cells
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, Matrix costs) {
+        return solve(supply, demand, costs, null);
+    }
+
+    /**
+     * Method for solving the problem using the MODI method on a shared cost model, the model is passed
+     * to the algorithm of the initial solution
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return an optimal solution plan of m + n - 1 basic cells
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, CostModel model) {
+        return solve(supply, demand, model.getCosts(), model);
+    }
+
+    /**
+     * @param model is a model of the matrix of costs, or null
+     */
+    private Plan solve(LongVector supply, LongVector demand, Matrix costs, CostModel model) {
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+
+        boolean timed = listener.isEnabled();
+        long solveStart = timed ? System.nanoTime() : 0;
+        listener.solveStarted(name, rows, cols);
+
+        // A complete basis, such as the North-West staircase, is used as it is, other solutions are completed to one
+        boolean complete = initial.givesCompleteBasis();
+        Plan start = model != null ? initial.solveBasis(supply, demand, model) : initial.solveBasis(supply, demand, costs);
+        long phaseStart = timed ? System.nanoTime() : 0;
+        if (timed) listener.phaseFinished(name, "initial", phaseStart - solveStart);
+
+        BasisTree tree = complete ? completeBasis(start, costs) : buildBasis(start, costs);
+        // The objective is tracked only for the listener, every pivot lowers it by the reduced cost times the flow moved
+        long objective = timed ? start.getTotalCost(costs) : 0;
+        if (timed) {
+            long now = System.nanoTime();
+            listener.phaseFinished(name, "basis", now - phaseStart);
+            phaseStart = now;
+        }
+
+        iterations = 0;
+        while (true) {
+            Cancellation.check();
+            int enterRow = -1;
+            int enterCol = -1;
+            long best = 0;
+
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    long reducedCost = tree.reducedCost(i, rows + j, costs.getItem(i, j));
+                    if (reducedCost < best) {
+                        best = reducedCost;
+                        enterRow = i;
+                        enterCol = j;
+                    }
+                }
+            }
+
+            if (timed) {
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "pricing", now - phaseStart);
+                phaseStart = now;
+            }
+
+            if (enterRow == -1) break;
+
+            long moved = tree.pivot(enterRow, rows + enterCol, costs.getItem(enterRow, enterCol), 0);
+            iterations++;
+
+            if (timed) {
+                objective += best * moved;
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "pivot", now - phaseStart);
+                listener.pivoted(name, iterations, objective);
+                phaseStart = now;
+            }
+        }
+
+        Plan answer = PlanFactory.createEmptyPlan(rows, cols);
+        for (int e = 0; e < tree.getEdgeCount(); e++)
+            answer.add(tree.getTail(e), tree.getHead(e) - rows, tree.getFlow(e));
+
+        if (timed) listener.solveFinished(name, iterations, objective, System.nanoTime() - solveStart);
+        return answer;
+    }
+
+    /**
+     * @return true, the optimal plan is given as the m + n - 1 cells of the final basis
+     */
+    @Override
+    public boolean givesCompleteBasis() {
+        return true;
+    }
+
+    /**
+     * @return a number of pivots made by the last call of solve
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Method for building a basis tree from the cells of a basic feasible solution.
+     * Zero cells closing a cycle are skipped. A degenerate solution may have fewer than m + n - 1 cells left,
+     * the tree is then completed with zero cells of the first row and the first column
+     *
+     * @param start is an initial basic feasible solution
+     * @param costs is a matrix of costs
+     * @return a basis tree with potentials of the solution
+     */
+    static BasisTree buildBasis(Plan start, Matrix costs) {
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+        BasisTree tree = new BasisTree(rows + cols);
+
+        int[] component = new int[rows + cols];
+        for (int node = 0; node < component.length; node++) component[node] = node;
+
+        for (int k = 0; k < start.getSize(); k++) {
+            if (start.getAmount(k) == 0) continue;
+
+            int i = start.getRow(k);
+            int j = start.getColumn(k);
+            if (!union(component, i, rows + j))
+                throw new IllegalArgumentException("Initial solution is not basic.");
+            tree.addEdge(i, rows + j, costs.getItem(i, j), start.getAmount(k), 0);
+        }
+
+        for (int k = 0; k < start.getSize(); k++) {
+            int i = start.getRow(k);
+            int j = start.getColumn(k);
+            if (start.getAmount(k) == 0 && union(component, i, rows + j))
+                tree.addEdge(i, rows + j, costs.getItem(i, j), 0, 0);
+        }
+
+        for (int j = 0; j < cols; j++)
+            if (union(component, 0, rows + j))
+                tree.addEdge(0, rows + j, costs.getItem(0, j), 0, 0);
+
+        for (int i = 1; i < rows; i++)
+            if (union(component, i, rows))
+                tree.addEdge(i, rows, costs.getItem(i, 0), 0, 0);
+
+        tree.build(0);
+        return tree;
+    }
+
+    /**
+     * Method for building a basis tree from the cells of a complete basis, such as a North-West staircase,
+     * which already form a spanning tree
+     *
+     * @param start is a plan of exactly m + n - 1 basic cells
+     * @param costs is a matrix of costs
+     * @return a basis tree with potentials of the solution
+     */
+    static BasisTree completeBasis(Plan start, Matrix costs) {
+        int rows = costs.getNumberOfRows();
+        BasisTree tree = new BasisTree(rows + costs.getNumberOfColumns());
+
+        for (int k = 0; k < start.getSize(); k++) {
+            int i = start.getRow(k);
+            int j = start.getColumn(k);
+            tree.addEdge(i, rows + j, costs.getItem(i, j), start.getAmount(k), 0);
+        }
+
+        tree.build(0);
+        return tree;
+    }
+
+    /**
+     * Method for joining components of two nodes in a disjoint-set forest
+     *
+     * @return false if the nodes were already in the same component
+     */
+    private static boolean union(int[] component, int a, int b) {
+        int rootA = find(component, a);
+        int rootB = find(component, b);
+        if (rootA == rootB) return false;
+
+        component[rootA] = rootB;
+        return true;
+    }
+
+    private static int find(int[] component, int node) {
+        while (component[node] != node) {
+            component[node] = component[component[node]];
+            node = component[node];
+        }
+        return node;
+    }
+}
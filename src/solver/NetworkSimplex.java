@@ -0,0 +1,136 @@
+package solver;
+
+import structures.LongVector;
+import structures.Plan;
+import structures.PlanFactory;
+
+import java.util.Arrays;
+
+/**
+ * Class for solving sparse transportation problems as a min-cost flow with the network simplex method.
+ * Only the lanes added with addArc exist, so neither costs nor flows take m * n memory.
+ * The start basis sends everything through an artificial root node along expensive arcs,
+ * the simplex then replaces them with real arcs
+ */
+public class NetworkSimplex {
+    private final int sources;
+    private final int destinations;
+
+    private int[] arcSource = new int[16];
+    private int[] arcDestination = new int[16];
+    private int[] arcCost = new int[16];
+    private int arcCount;
+
+    private int iterations;
+
+    /**
+     * @param sources is a number of sources
+     * @param destinations is a number of destinations
+     */
+    public NetworkSimplex(int sources, int destinations) {
+        this.sources = sources;
+        this.destinations = destinations;
+    }
+
+    /**
+     * Method for adding an allowed lane
+     *
+     * @param source is an index of the source
+     * @param destination is an index of the destination
+     * @param cost is a cost per unit along the lane
+     * @return an index of the arc
+     */
+    public int addArc(int source, int destination, int cost) {
+        if (source < 0 || source >= sources || destination < 0 || destination >= destinations)
+            throw new IndexOutOfBoundsException();
+
+        if (arcCount == arcSource.length) {
+            arcSource = Arrays.copyOf(arcSource, arcCount * 2);
+            arcDestination = Arrays.copyOf(arcDestination, arcCount * 2);
+            arcCost = Arrays.copyOf(arcCost, arcCount * 2);
+        }
+
+        arcSource[arcCount] = source;
+        arcDestination[arcCount] = destination;
+        arcCost[arcCount] = cost;
+        return arcCount++;
+    }
+
+    /**
+     * Method for finding a min-cost flow that ships all the supply to the demand along the added arcs
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @return a plan of the (source, destination, amount) lanes of the final basis
+     */
+    public Plan solve(LongVector supply, LongVector demand) {
+        if (supply.getLength() != sources || demand.getLength() != destinations)
+            throw new IllegalArgumentException();
+        if (supply.getSum() != demand.getSum())
+            throw new IllegalArgumentException("The problem is not balanced!");
+
+        int root = sources + destinations;
+        BasisTree tree = new BasisTree(sources + destinations + 1);
+
+        // Artificial arcs cost more than any path of real arcs, zero ones point away from the root
+        long maxCost = 0;
+        for (int a = 0; a < arcCount; a++) maxCost = Math.max(maxCost, Math.abs((long) arcCost[a]));
+        long artificialCost = (maxCost + 1) * (sources + destinations + 1);
+
+        for (int i = 0; i < sources; i++) {
+            if (supply.get(i) > 0) tree.addEdge(i, root, artificialCost, supply.get(i), -1);
+            else tree.addEdge(root, i, artificialCost, 0, -1);
+        }
+        for (int j = 0; j < destinations; j++)
+            tree.addEdge(root, sources + j, artificialCost, demand.get(j), -1);
+        tree.build(root);
+
+        // Block search pricing: the best arc of a block of about sqrt(arcs) arcs enters
+        int blockSize = Math.max(10, (int) Math.sqrt(arcCount));
+        int next = 0;
+        iterations = 0;
+
+        while (true) {
+            int enter = -1;
+            long best = 0;
+            int scanned = 0;
+            int a = next;
+
+            for (int count = 0; count < arcCount; count++) {
+                long reducedCost = tree.reducedCost(arcSource[a], sources + arcDestination[a], arcCost[a]);
+                if (reducedCost < best) {
+                    best = reducedCost;
+                    enter = a;
+                }
+
+                if (++a == arcCount) a = 0;
+                if (++scanned == blockSize) {
+                    if (enter != -1) break;
+                    scanned = 0;
+                }
+            }
+
+            if (enter == -1) break;
+
+            next = a;
+            tree.pivot(arcSource[enter], sources + arcDestination[enter], arcCost[enter], enter);
+            iterations++;
+        }
+
+        Plan answer = PlanFactory.createEmptyPlan(sources, destinations);
+        for (int e = 0; e < tree.getEdgeCount(); e++) {
+            if (tree.getId(e) >= 0) answer.add(arcSource[tree.getId(e)], arcDestination[tree.getId(e)], tree.getFlow(e));
+            else if (tree.getFlow(e) > 0)
+                throw new IllegalStateException("The demand can not be met using the given arcs.");
+        }
+
+        return answer;
+    }
+
+    /**
+     * @return a number of pivots made by the last call of solve
+     */
+    public int getIterations() {
+        return iterations;
+    }
+}
@@ -0,0 +1,114 @@
+package solver;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+
+/**
+ * Class for North-West method.
+ * The allocation walks down a staircase from the top left cell: every step exhausts a row or a column
+ * and moves to the next one, so the walk takes m + n - 1 steps and never looks at the matrix of costs
+ */
+public class NorthWest implements Algorithm {
+    private static final String name = "NorthWest";
+
+    private SolveListener listener = SolveListener.disabled;
+
+    @Override
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Method for solving the problem using North-West Corner method
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return a solution plan of the non-zero allocations
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, Matrix costs) {
+        return staircase(supply, demand, costs, false);
+    }
+
+    /**
+     * Method for solving the problem using North-West Corner method keeping the degenerate steps.
+     * The cells of the staircase, zero ones included, form a spanning tree of rows and columns,
+     * so the plan is a basis an improving method can start from without completing it
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return a solution plan of exactly m + n - 1 basic cells
+     * @throws IllegalArgumentException if the problem is not balanced
+     */
+    @Override
+    public Plan solveBasis(LongVector supply, LongVector demand, Matrix costs) {
+        return staircase(supply, demand, costs, true);
+    }
+
+    @Override
+    public Plan solveBasis(LongVector supply, LongVector demand, CostModel model) {
+        return solveBasis(supply, demand, model.getCosts());
+    }
+
+    /**
+     * @return true, the staircase is always a complete basis
+     */
+    @Override
+    public boolean givesCompleteBasis() {
+        return true;
+    }
+
+    /**
+     * Method for walking the staircase. A row is left when its supply is exhausted, otherwise the column is;
+     * the last row and the last column are never left, so the walk ends in the bottom right cell
+     *
+     * @param zeros is true if zero allocations are added to the plan
+     */
+    private Plan staircase(LongVector supply, LongVector demand, Matrix costs, boolean zeros) {
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+
+        boolean timed = listener.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        listener.solveStarted(name, rows, cols);
+
+        Plan answer = PlanFactory.createEmptyPlan(rows, cols);
+        if (rows == 0 || cols == 0) return answer;
+
+        int row = 0;
+        int col = 0;
+        long rowLeft = supply.get(0);
+        long colLeft = demand.get(0);
+
+        while (true) {
+            long allocate = Math.min(rowLeft, colLeft);
+            rowLeft -= allocate;
+            colLeft -= allocate;
+
+            if (allocate > 0 || zeros) answer.add(row, col, allocate);
+            listener.allocated(name, row, col, allocate, rowLeft == 0 && colLeft == 0);
+
+            if (row == rows - 1 && col == cols - 1) break;
+
+            if (col == cols - 1 || (rowLeft == 0 && row < rows - 1)) {
+                supply.set(row++, rowLeft);
+                rowLeft = supply.get(row);
+            } else {
+                demand.set(col++, colLeft);
+                colLeft = demand.get(col);
+            }
+        }
+
+        supply.set(row, rowLeft);
+        demand.set(col, colLeft);
+        if (zeros && (rowLeft != 0 || colLeft != 0))
+            throw new IllegalArgumentException("The problem is not balanced!");
+
+        if (timed) listener.solveFinished(name, rows + cols - 1, answer.getTotalCost(costs), System.nanoTime() - start);
+        return answer;
+    }
+}
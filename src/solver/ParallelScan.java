@@ -0,0 +1,144 @@
+package solver;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Helpers for splitting scans over the rows or columns of a matrix across a fork-join pool.
+ * Work is split into leaves of about 'threshold' cells, problems smaller than one leaf are scanned
+ * on the calling thread
+ */
+final class ParallelScan {
+    static final int defaultThreshold = 1 << 14;
+
+    private ParallelScan() {
+    }
+
+    /**
+     * Scan of a range of lines
+     */
+    @FunctionalInterface
+    interface RangeAction {
+        void run(int from, int to);
+    }
+
+    /**
+     * Scan of a range of lines returning the smallest score found in it
+     */
+    @FunctionalInterface
+    interface RangeMinimum {
+        Minimum run(int from, int to);
+    }
+
+    /**
+     * Smallest score of a scan and the first cell, in row-major order, it was found at
+     */
+    static final class Minimum {
+        final long score;
+        final int row;
+        final int col;
+
+        Minimum(long score, int row, int col) {
+            this.score = score;
+            this.row = row;
+            this.col = col;
+        }
+    }
+
+    /**
+     * Method for running an action over lines [0, lines)
+     *
+     * @param pool is a pool to run on, or null for the calling thread
+     * @param lines is a number of lines
+     * @param lineLength is a number of cells in a line
+     * @param threshold is a number of cells below which a range is not split
+     * @param action is an action run once for every leaf range
+     */
+    static void forEachRange(ForkJoinPool pool, int lines, int lineLength, int threshold, RangeAction action) {
+        int grain = grain(lineLength, threshold);
+        if (pool == null || lines <= grain)
+            action.run(0, lines);
+        else
+            pool.invoke(new ForEachTask(0, lines, grain, action));
+    }
+
+    /**
+     * Method for finding the smallest score over lines [0, lines).
+     * Leaves are combined keeping the left one on ties, so the result is the same as of a sequential scan
+     *
+     * @param pool is a pool to run on, or null for the calling thread
+     * @param lines is a number of lines
+     * @param lineLength is a number of cells in a line
+     * @param threshold is a number of cells below which a range is not split
+     * @param scan is a sequential scan of a range
+     * @return the smallest score of all ranges
+     */
+    static Minimum minimum(ForkJoinPool pool, int lines, int lineLength, int threshold, RangeMinimum scan) {
+        int grain = grain(lineLength, threshold);
+        if (pool == null || lines <= grain)
+            return scan.run(0, lines);
+        return pool.invoke(new MinimumTask(0, lines, grain, scan));
+    }
+
+    private static int grain(int lineLength, int threshold) {
+        return Math.max(1, threshold / Math.max(1, lineLength));
+    }
+
+    private static final class ForEachTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeAction action;
+
+        ForEachTask(int from, int to, int grain, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                action.run(from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ForEachTask(from, middle, grain, action), new ForEachTask(middle, to, grain, action));
+        }
+    }
+
+    private static final class MinimumTask extends RecursiveTask<Minimum> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeMinimum scan;
+
+        MinimumTask(int from, int to, int grain, RangeMinimum scan) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.scan = scan;
+        }
+
+        @Override
+        protected Minimum compute() {
+            if (to - from <= grain)
+                return scan.run(from, to);
+
+            int middle = (from + to) >>> 1;
+            MinimumTask right = new MinimumTask(middle, to, grain, scan);
+            right.fork();
+            Minimum left = new MinimumTask(from, middle, grain, scan).compute();
+            Minimum rightResult = right.join();
+
+            return rightResult.score < left.score ? rightResult : left;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package solver;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class for racing several algorithms on the same problem and keeping the cheapest plan.
+ * The matrix of costs is only read, so all runs share it and the data derived from it in a {@link CostModel};
+ * supply and demand are consumed by the algorithms and every run gets its own copy. Ties are resolved in favour of the algorithm registered first
+ */
+public class PortfolioSolver implements Algorithm {
+    private final List<Algorithm> algorithms = new ArrayList<>();
+    private Executor executor = ForkJoinPool.commonPool();
+    private Duration deadline;
+
+    private List<Result> results = Collections.emptyList();
+    private Result best;
+
+    private PortfolioSolver() {
+    }
+
+    /**
+     * Class builder for registering algorithms and setting the executor and the deadline
+     */
+    public static class Builder {
+        private final PortfolioSolver solver = new PortfolioSolver();
+
+        public Builder add(Algorithm algorithm) {
+            solver.algorithms.add(algorithm);
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            solver.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param deadline is a time after which the best plan found so far is returned and unfinished runs are cancelled
+         */
+        public Builder deadline(Duration deadline) {
+            solver.deadline = deadline;
+            return this;
+        }
+
+        public PortfolioSolver build() {
+            if (solver.algorithms.isEmpty())
+                throw new IllegalStateException("No algorithms registered.");
+            return solver;
+        }
+    }
+
+    /**
+     * Outcome of one algorithm of the last race
+     */
+    public static class Result {
+        private final Algorithm algorithm;
+        private final int order;
+        private Plan plan;
+        private long totalCost;
+        private long nanos;
+        private Throwable failure;
+
+        private Result(Algorithm algorithm, int order) {
+            this.algorithm = algorithm;
+            this.order = order;
+        }
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        /**
+         * @return the plan, or null if the algorithm failed or did not finish before the deadline
+         */
+        public Plan getPlan() {
+            return plan;
+        }
+
+        public long getTotalCost() {
+            return totalCost;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return the exception thrown by the algorithm, or null
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        public boolean isFinished() {
+            return plan != null;
+        }
+    }
+
+    /**
+     * Method for setting the listener of all registered algorithms, it is called from several threads at once
+     *
+     * @param listener is a thread-safe listener of solve events
+     */
+    @Override
+    public void setListener(SolveListener listener) {
+        for (Algorithm algorithm : algorithms)
+            algorithm.setListener(listener);
+    }
+
+    /**
+     * Method for solving the problem with all registered algorithms at once.
+     * Without a deadline all runs are awaited. With a deadline the best plan finished by then is returned,
+     * if none has finished the first one to finish is returned
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return the cheapest plan
+     * @throws IllegalStateException if every algorithm failed
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, Matrix costs) {
+        return solve(supply, demand, CostModel.of(costs));
+    }
+
+    /**
+     * Method for solving the problem with all registered algorithms at once on a shared cost model,
+     * so data derived from the matrix of costs is computed once for all of them
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return the cheapest plan
+     * @throws IllegalStateException if every algorithm failed
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, CostModel model) {
+        long start = System.nanoTime();
+        CompletionService<Result> completion = new ExecutorCompletionService<>(executor);
+        // Runs still going after the deadline must not change the reported outcomes,
+        // so every run returns a new Result which replaces its placeholder only when collected
+        Result[] outcomes = new Result[algorithms.size()];
+        List<Future<Result>> futures = new ArrayList<>();
+
+        for (int k = 0; k < outcomes.length; k++) {
+            Algorithm algorithm = algorithms.get(k);
+            int order = k;
+            LongVector supplyClone = supply.buildClone();
+            LongVector demandClone = demand.buildClone();
+            outcomes[k] = new Result(algorithm, order);
+            futures.add(completion.submit(() -> run(algorithm, order, supplyClone, demandClone, model)));
+        }
+
+        best = null;
+
+        try {
+            for (int pending = outcomes.length; pending > 0; pending--) {
+                Future<Result> done;
+                if (deadline == null) {
+                    done = completion.take();
+                } else {
+                    long remaining = deadline.toNanos() - (System.nanoTime() - start);
+                    done = completion.poll(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                    if (done == null && best != null)
+                        break;
+                    if (done == null)
+                        done = completion.take();
+                }
+
+                Result result = done.get();
+                outcomes[result.order] = result;
+                if (result.isFinished() && isBetter(result, best))
+                    best = result;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            for (Future<Result> future : futures)
+                future.cancel(true);
+        }
+
+        results = Collections.unmodifiableList(Arrays.asList(outcomes));
+        if (best == null)
+            throw new IllegalStateException("No algorithm produced a plan.", firstFailure(results));
+
+        return best.plan;
+    }
+
+    /**
+     * @return outcomes of the last race in the order the algorithms were registered
+     */
+    public List<Result> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the outcome the last plan was taken from
+     */
+    public Result getBest() {
+        return best;
+    }
+
+    private static Result run(Algorithm algorithm, int order, LongVector supply, LongVector demand, CostModel model) {
+        Result result = new Result(algorithm, order);
+        long start = System.nanoTime();
+        try {
+            Plan plan = algorithm.solve(supply, demand, model);
+            result.totalCost = plan.getTotalCost(model.getCosts());
+            result.plan = plan;
+        } catch (RuntimeException ex) {
+            result.failure = ex;
+        }
+        result.nanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private static boolean isBetter(Result result, Result best) {
+        if (best == null)
+            return true;
+        if (result.totalCost != best.totalCost)
+            return result.totalCost < best.totalCost;
+        return result.order < best.order;
+    }
+
+    private static Throwable firstFailure(List<Result> runs) {
+        for (Result result : runs)
+            if (result.failure != null)
+                return result.failure;
+        return null;
+    }
+}
@@ -0,0 +1,190 @@
+package solver;
+
+import structures.CellMask;
+import structures.IndexedValueConsumer;
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+import structures.Vector;
+import structures.VectorFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class for Russel's Approximation
+ */
+public class RusselAlgorithm implements Algorithm {
+    private static final String name = "RusselAlgorithm";
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private SolveListener listener = SolveListener.disabled;
+
+    /**
+     * Constructor of the sequential algorithm
+     */
+    public RusselAlgorithm() {
+        this(null, ParallelScan.defaultThreshold);
+    }
+
+    /**
+     * Constructor of the algorithm computing the maximums and scores in parallel, the result is the same
+     *
+     * @param pool is a pool the scans are run on
+     */
+    public RusselAlgorithm(ForkJoinPool pool) {
+        this(pool, ParallelScan.defaultThreshold);
+    }
+
+    /**
+     * @param pool is a pool the scans are run on, or null for the sequential algorithm
+     * @param threshold is a number of cells a task scans without splitting, smaller problems are not split at all
+     */
+    public RusselAlgorithm(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Method for solving the problem using Russel's Approximation
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, Matrix costs) {
+        return solve(supply, demand, costs, null, null);
+    }
+
+    /**
+     * Method for solving the problem using Russel's Approximation on a shared cost model,
+     * maximums of the first step are the cached maximums of every line
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, CostModel model) {
+        return solve(supply, demand, model.getCosts(), model.getRowStatistics(), model.getColumnStatistics());
+    }
+
+    /**
+     * @param rowStatistics are statistics of the rows for the first step, or null to scan them
+     * @param colStatistics are statistics of the columns for the first step, or null to scan them
+     */
+    private Plan solve(LongVector supply, LongVector demand, Matrix costs,
+                       CostModel.LineStatistics rowStatistics, CostModel.LineStatistics colStatistics) {
+        Plan answer = PlanFactory.createEmptyPlan(costs.getNumberOfRows(), costs.getNumberOfColumns());
+        Vector rowsMaxes = VectorFactory.createEmptyVector(costs.getNumberOfRows());
+        Vector colsMaxes = VectorFactory.createEmptyVector(costs.getNumberOfColumns());
+        CellMask mask = new CellMask(costs.getNumberOfRows(), costs.getNumberOfColumns());
+
+        boolean timed = listener.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        int steps = 0;
+        listener.solveStarted(name, costs.getNumberOfRows(), costs.getNumberOfColumns());
+
+        boolean first = rowStatistics != null;
+
+        do {
+            Cancellation.check();
+            long phaseStart = timed ? System.nanoTime() : 0;
+            if (first) {
+                // Nothing is used yet, so the maximums are those of whole lines
+                for (int i = 0; i < costs.getNumberOfRows(); i++)
+                    rowsMaxes.set(i, rowStatistics.getMax(i));
+                for (int j = 0; j < costs.getNumberOfColumns(); j++)
+                    colsMaxes.set(j, colStatistics.getMax(j));
+                first = false;
+            } else {
+                ParallelScan.forEachRange(pool, costs.getNumberOfRows(), costs.getNumberOfColumns(), threshold, (from, to) -> {
+                    Largest rowLine = new Largest();
+                    for (int i = from; i < to; i++) {
+                        rowLine.max = Integer.MIN_VALUE;
+                        mask.forEachActiveInRow(costs, i, rowLine);
+                        rowsMaxes.set(i, rowLine.max);
+                    }
+                });
+                ParallelScan.forEachRange(pool, costs.getNumberOfColumns(), costs.getNumberOfRows(), threshold, (from, to) -> {
+                    Largest colLine = new Largest();
+                    for (int j = from; j < to; j++) {
+                        colLine.max = Integer.MIN_VALUE;
+                        mask.forEachActiveInColumn(costs, j, colLine);
+                        colsMaxes.set(j, colLine.max);
+                    }
+                });
+            }
+
+            if (timed) {
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "maximums", now - phaseStart);
+                phaseStart = now;
+            }
+
+            // The most negative score costs[i][j] - rowsMaxes[i] - colsMaxes[j] among the cells not used yet,
+            // the first one in row-major order on ties
+            ParallelScan.Minimum mostNegative = ParallelScan.minimum(pool, costs.getNumberOfRows(), costs.getNumberOfColumns(), threshold,
+                    (from, to) -> mostNegativeScore(costs, mask, rowsMaxes, colsMaxes, from, to));
+            int[] coordsOfMostNegative = {mostNegative.row, mostNegative.col};
+
+            long allocate = Math.min(supply.get(coordsOfMostNegative[0]), demand.get(coordsOfMostNegative[1]));
+            supply.set(coordsOfMostNegative[0], supply.get(coordsOfMostNegative[0]) - allocate);
+            demand.set(coordsOfMostNegative[1], demand.get(coordsOfMostNegative[1]) - allocate);
+            mask.markUsed(coordsOfMostNegative[0], coordsOfMostNegative[1]);
+
+            if (allocate > 0) answer.add(coordsOfMostNegative[0], coordsOfMostNegative[1], allocate);
+
+            steps++;
+            listener.allocated(name, coordsOfMostNegative[0], coordsOfMostNegative[1], allocate,
+                    supply.get(coordsOfMostNegative[0]) == 0 && demand.get(coordsOfMostNegative[1]) == 0);
+            if (timed) listener.phaseFinished(name, "selection", System.nanoTime() - phaseStart);
+
+        } while (supply.getSum() != 0 || demand.getSum() != 0);
+
+        if (timed) listener.solveFinished(name, steps, answer.getTotalCost(costs), System.nanoTime() - start);
+        return answer;
+    }
+
+    private static ParallelScan.Minimum mostNegativeScore(Matrix costs, CellMask mask, Vector rowsMaxes, Vector colsMaxes, int from, int to) {
+        int row = 0;
+        int col = 0;
+        long mostNegative = Long.MAX_VALUE;
+
+        for (int i = from; i < to; i++) {
+            for (int j = 0; j < costs.getNumberOfColumns(); j++) {
+                if (!mask.isActive(i, j)) continue;
+
+                long score = (long) costs.getItem(i, j) - rowsMaxes.get(i) - colsMaxes.get(j);
+                if (score < mostNegative) {
+                    mostNegative = score;
+                    row = i;
+                    col = j;
+                }
+            }
+        }
+
+        return new ParallelScan.Minimum(mostNegative, row, col);
+    }
+
+    /**
+     * Class for finding the maximum of a row or a column of a matrix of costs, reused for every line
+     */
+    private static class Largest implements IndexedValueConsumer {
+        private int max;
+
+        @Override
+        public void accept(int index, int value) {
+            if (value > max) max = value;
+        }
+    }
+}
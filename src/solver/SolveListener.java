@@ -0,0 +1,62 @@
+package solver;
+
+/**
+ * Listener of the progress of a solve. Every method does nothing by default and algorithms measure time
+ * only for enabled listeners, so the disabled listener costs a few empty calls per iteration
+ */
+public interface SolveListener {
+    /**
+     * Listener used when none is set
+     */
+    SolveListener disabled = new SolveListener() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * @return false if the listener ignores all events, timings and objective values are then not computed
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    default void solveStarted(String algorithm, int rows, int cols) {
+    }
+
+    /**
+     * Method called when a phase of an algorithm (one per iteration, or once per solve) is over
+     *
+     * @param algorithm is a name of the algorithm
+     * @param phase     is a name of the phase, e.g. "penalties" or "selection"
+     * @param nanos     is a time the phase took
+     */
+    default void phaseFinished(String algorithm, String phase, long nanos) {
+    }
+
+    /**
+     * Method called for every allocation of an approximation method
+     *
+     * @param degenerate is true if the allocation exhausted its row and its column at once
+     */
+    default void allocated(String algorithm, int row, int col, long amount, boolean degenerate) {
+    }
+
+    /**
+     * Method called after every pivot of an improving method
+     *
+     * @param iteration is a number of the pivot starting from 1
+     * @param objective is a total cost of the plan after the pivot
+     */
+    default void pivoted(String algorithm, int iteration, long objective) {
+    }
+
+    /**
+     * @param iterations is a number of allocations or pivots made, for TransportationProblem a number of cells of the plan
+     * @param objective  is a total cost of the plan found
+     * @param nanos      is a time the whole solve took
+     */
+    default void solveFinished(String algorithm, int iterations, long objective, long nanos) {
+    }
+}
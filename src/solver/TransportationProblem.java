@@ -0,0 +1,388 @@
+package solver;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.MatrixFactory;
+import structures.Plan;
+import structures.PlanFactory;
+import structures.VectorFactory;
+
+import java.time.Duration;
+
+/**
+ * Class for storing demand, supply, costs and the method for solving the transportation problem
+ */
+public class TransportationProblem {
+    private static final int maxPrintedRows = 20;
+    private static final int maxPrintedColumns = 10;
+    private static final String tableTitle = "Cost Per Unit Distributed";
+    private static final String name = "TransportationProblem";
+
+    private LongVector supply;
+    private LongVector demand;
+    private Matrix costs;
+
+    private Algorithm algorithm;
+
+    // Whether an unbalanced problem is solved with a dummy source or destination, and the cost of its cells
+    private boolean balancing;
+    private int dummyCost;
+
+    private SolveListener listener = SolveListener.disabled;
+
+    // Model of the matrix of costs the algorithm runs on (extended with the dummy line if there is one),
+    // built by the first solve and shared by the following ones
+    private CostModel model;
+
+    public TransportationProblem() {
+    }
+
+    /**
+     * Class builder for initializing vectors, matrix and algorithm
+     */
+    public static class Builder {
+        private final TransportationProblem solver = new TransportationProblem();
+
+        public Builder setVectorSupply(LongVector supply) {
+            solver.supply = supply;
+            return this;
+        }
+
+        public Builder setVectorDemand(LongVector demand) {
+            solver.demand = demand;
+            return this;
+        }
+
+        /**
+         * @param costs is a matrix of costs, it is shared by the solves and must not be changed afterwards
+         */
+        public Builder setMatrixCosts(Matrix costs) {
+            solver.costs = costs;
+            solver.model = null;
+            return this;
+        }
+
+        /**
+         * Sets the matrix of costs of a model shared with other problems on the same lanes,
+         * so data derived from it is not computed again
+         * @param model is a model of the matrix of costs
+         */
+        public Builder setCostModel(CostModel model) {
+            solver.costs = model.getCosts();
+            solver.model = model;
+            return this;
+        }
+
+        public Builder algorithm(Algorithm algorithm) {
+            solver.algorithm = algorithm;
+            return this;
+        }
+
+        /**
+         * Enables solving unbalanced problems: excess supply goes to a dummy destination,
+         * missing supply comes from a dummy source
+         * @param dummyCost is a cost per unit of the dummy cells, 0 or a penalty for leftover supply or unmet demand
+         */
+        public Builder balanceWithDummy(int dummyCost) {
+            solver.balancing = true;
+            solver.dummyCost = dummyCost;
+            return this;
+        }
+
+        /**
+         * @param listener is a listener the problem and its algorithm report the progress of every solve into
+         */
+        public Builder listener(SolveListener listener) {
+            solver.listener = listener;
+            return this;
+        }
+
+        public TransportationProblem build() {
+            return solver;
+        }
+    }
+
+    /**
+     * Method that solves the problem using a specified method stored as 'algorithm'
+     *
+     * @return a sparse solution plan
+     */
+    public Plan solve() {
+        if (algorithm == null)
+            throw new IllegalStateException("Algorithm not set.");
+
+        boolean timed = listener.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        listener.solveStarted(name, costs.getNumberOfRows(), costs.getNumberOfColumns());
+        // Without a listener of its own the problem keeps the one set on the algorithm
+        if (timed) algorithm.setListener(listener);
+
+        Plan answer = solveBalanced();
+
+        if (timed) listener.solveFinished(name, answer.getSize(), answer.getTotalCost(costs), System.nanoTime() - start);
+        return answer;
+    }
+
+    /**
+     * Method for solving the problem, an unbalanced one is extended with a dummy line if balancing is enabled
+     */
+    private Plan solveBalanced() {
+        // Algorithms track used cells themselves, so the matrix of costs is shared instead of cloned
+        long excess = supply.getSum() - demand.getSum();
+        if (excess == 0 || !balancing)
+            return algorithm.solve(supply.buildClone(), demand.buildClone(), model(0, 0));
+
+        // The dummy line is a view over the matrix of costs, the matrix itself is not copied
+        LongVector balancedSupply = excess < 0 ? extended(supply, -excess) : supply.buildClone();
+        LongVector balancedDemand = excess > 0 ? extended(demand, excess) : demand.buildClone();
+
+        return withoutDummy(algorithm.solve(balancedSupply, balancedDemand, model(excess < 0 ? 1 : 0, excess > 0 ? 1 : 0)));
+    }
+
+    /**
+     * Method that solves the problem within a time limit or up to a target gap, see {@link ApproximateSolver}.
+     * Incremental Vogel's Approximation gives the initial solution, it is improved with simplex pivots while time is left
+     *
+     * @param deadline is a time the solution is returned within, or null for no limit
+     * @param targetGap is a relative gap between the plan and the lower bound at which the solve stops, 0 for the optimum
+     * @return the best plan found with its total cost and a lower bound of the optimum
+     */
+    public ApproximateSolution solveApproximately(Duration deadline, double targetGap) {
+        return solveApproximately(new ApproximateSolver.Builder().deadline(deadline).targetGap(targetGap).build());
+    }
+
+    /**
+     * Method that solves the problem with a configured approximate solver.
+     * The dummy source or destination always ships the whole excess at its cost, so its share is taken
+     * from the total cost and the lower bound along with its cells from the plan
+     *
+     * @param approximate is a solver with a deadline and a target gap
+     * @return the best plan found with its total cost and a lower bound of the optimum
+     */
+    public ApproximateSolution solveApproximately(ApproximateSolver approximate) {
+        long excess = supply.getSum() - demand.getSum();
+        boolean dummy = excess != 0 && balancing;
+        LongVector balancedSupply = dummy && excess < 0 ? extended(supply, -excess) : supply;
+        LongVector balancedDemand = dummy && excess > 0 ? extended(demand, excess) : demand;
+
+        if (listener.isEnabled()) approximate.setListener(listener);
+        ApproximateSolution solution = approximate.solve(balancedSupply, balancedDemand,
+                dummy ? model(excess < 0 ? 1 : 0, excess > 0 ? 1 : 0) : model(0, 0));
+
+        long dummyShare = dummy ? Math.abs(excess) * dummyCost : 0;
+        long lowerBound = solution.hasLowerBound() ? solution.getLowerBound() - dummyShare : Long.MIN_VALUE;
+        return new ApproximateSolution(withoutDummy(solution.getPlan()), solution.getTotalCost() - dummyShare, lowerBound,
+                solution.getIterations(), solution.getInitial());
+    }
+
+    /**
+     * Method for getting the model of the matrix of costs extended with dummy lines, the model of the last solve
+     * is reused if it has the same dummy lines
+     *
+     * @param extraRows is a number of dummy sources
+     * @param extraCols is a number of dummy destinations
+     * @return a model of the extended matrix
+     */
+    private CostModel model(int extraRows, int extraCols) {
+        int rows = costs.getNumberOfRows() + extraRows;
+        int cols = costs.getNumberOfColumns() + extraCols;
+        if (model != null && model.getNumberOfRows() == rows && model.getNumberOfColumns() == cols)
+            return model;
+
+        Matrix solved = extraRows == 0 && extraCols == 0 ? costs : MatrixFactory.createExtendedMatrix(costs, extraRows, extraCols, dummyCost);
+        model = CostModel.of(solved);
+        return model;
+    }
+
+    /**
+     * Method for removing the cells of the dummy source or destination from a plan of the balanced problem.
+     * Shipments of the dummy line are supply left at the sources or demand left unmet, they are not part of the plan
+     *
+     * @param plan is a plan of the balanced problem, or of the problem itself
+     * @return a plan of the problem with the same cells except the dummy ones
+     */
+    public Plan withoutDummy(Plan plan) {
+        int rows = costs.getNumberOfRows();
+        int cols = costs.getNumberOfColumns();
+        if (plan.getNumberOfRows() == rows && plan.getNumberOfColumns() == cols)
+            return plan;
+
+        Plan answer = PlanFactory.createEmptyPlan(rows, cols);
+        for (int k = 0; k < plan.getSize(); k++)
+            if (plan.getRow(k) < rows && plan.getColumn(k) < cols)
+                answer.add(plan.getRow(k), plan.getColumn(k), plan.getAmount(k));
+
+        return answer;
+    }
+
+    /**
+     * Method for appending one value to a vector
+     *
+     * @param vector is a vector of supply or demand
+     * @param value  is a value of the dummy source or destination
+     * @return a new vector one longer than the given one
+     */
+    private static LongVector extended(LongVector vector, long value) {
+        LongVector result = VectorFactory.createEmptyLongVector(vector.getLength() + 1);
+        for (int i = 0; i < vector.getLength(); i++)
+            result.set(i, vector.get(i));
+        result.set(vector.getLength(), value);
+        return result;
+    }
+
+    /**
+     * Method for evaluating the objective function sum(c_ij * x_ij) of a plan
+     *
+     * @param plan is a solution plan of this problem
+     * @return total cost of the plan
+     * @throws ArithmeticException if the total cost does not fit into a long
+     */
+    public long getTotalCost(Plan plan) {
+        return plan.getTotalCost(costs);
+    }
+
+    /**
+     * Method for setting a type of algorithm used for solving the problem
+     *
+     * @param algorithm is an algorithm type
+     */
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Method for setting a listener of the following solves, the algorithm gets it at the start of every solve
+     *
+     * @param listener is a listener, SolveListener.disabled turns reporting of the problem off
+     *                 and leaves the listener set on the algorithm in place
+     */
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Method for printing an initial problem table, big tables are truncated
+     * to the first maxPrintedRows sources and maxPrintedColumns destinations
+     */
+    public void printTransportationTable() {
+        if (costs == null || supply == null || demand == null) {
+            throw new IllegalStateException("Cost matrix, supply vector, and demand vector must be set before printing the table.");
+        }
+
+        int shownRows = Math.min(costs.getNumberOfRows(), maxPrintedRows);
+        int shownColumns = Math.min(costs.getNumberOfColumns(), maxPrintedColumns);
+        boolean rowsTruncated = shownRows < costs.getNumberOfRows();
+        boolean columnsTruncated = shownColumns < costs.getNumberOfColumns();
+
+        // Every shown destination (and the "..." column) takes one cell, cells are widened to fit the header
+        int cells = shownColumns + (columnsTruncated ? 1 : 0);
+        int cellWidth = Math.max(10, (tableTitle.length() + 2 + cells - 1) / cells);
+        int innerWidth = cellWidth * cells;
+        String cellFormat = "%" + cellWidth + "s";
+        String separator = "-".repeat(innerWidth);
+
+        // Print table header
+        System.out.println("-".repeat(innerWidth + 23));
+        System.out.printf("%11s%s|%11s%n", "|", centered(tableTitle, innerWidth), "|");
+        System.out.printf("%11s%s|%11s%n", "|", separator, "|");
+        System.out.printf("%11s%s|%11s%n", "|", centered("Destination", innerWidth), "|");
+        System.out.printf("%11s%s|%11s%n", "|", separator, "|");
+        System.out.printf("%11s", "|");
+        for (int j = 0; j < shownColumns; j++) {
+            System.out.printf(cellFormat, j + 1);
+        }
+        if (columnsTruncated) System.out.printf(cellFormat, "...");
+        System.out.printf("| %10s%n", "Supply  |");
+        System.out.println("----------|" + separator + "|----------|");
+
+        // Print cost matrix and supply vector
+        for (int i = 0; i < shownRows; i++) {
+            if (i == (shownRows - 1) / 2) System.out.printf("%10s|", "Source  " + (i + 1));
+            else System.out.printf("%10s|", i + 1);
+            for (int j = 0; j < shownColumns; j++) {
+                System.out.printf(cellFormat, costs.getItem(i, j));
+            }
+            if (columnsTruncated) System.out.printf(cellFormat, "...");
+            System.out.print("|");
+            System.out.printf("%10s|%n", supply.get(i));
+        }
+        if (rowsTruncated) {
+            System.out.printf("%10s|", "...");
+            for (int j = 0; j < cells; j++) {
+                System.out.printf(cellFormat, "...");
+            }
+            System.out.printf("|%10s|%n", "...");
+        }
+
+        // Print demand vector
+        System.out.println("----------|" + separator + "|----------|");
+        System.out.printf("%10s|", "Demand   ");
+        for (int j = 0; j < shownColumns; j++) {
+            System.out.printf(cellFormat, demand.get(j));
+        }
+        if (columnsTruncated) System.out.printf(cellFormat, "...");
+        System.out.printf("|%11s%n", "|");
+        System.out.println("-".repeat(innerWidth + 23));
+        if (rowsTruncated || columnsTruncated) {
+            System.out.printf("(showing %d of %d sources and %d of %d destinations)%n",
+                    shownRows, costs.getNumberOfRows(), shownColumns, costs.getNumberOfColumns());
+        }
+    }
+
+    /**
+     * Method for centering a text in a cell of a table
+     *
+     * @param text  is a text to be centered
+     * @param width is a width of the cell
+     * @return the text padded with spaces from both sides
+     */
+    private static String centered(String text, int width) {
+        int left = (width - text.length()) / 2;
+        return " ".repeat(left) + text + " ".repeat(width - text.length() - left);
+    }
+
+    /**
+     * Function for checking if methods are applicable
+     *
+     * @return true if applicable, false otherwise
+     */
+    public boolean checkAdditionalRestrictions() {
+        String error = findRestrictionError(supply, demand, balancing);
+        if (error != null) {
+            System.out.println(error);
+            return false;
+        }
+
+        long excess = supply.getSum() - demand.getSum();
+        if (excess > 0)
+            System.out.println("The problem is not balanced! A dummy destination takes the excess supply of " + excess + ".");
+        else if (excess < 0)
+            System.out.println("The problem is not balanced! A dummy source covers the unmet demand of " + -excess + ".");
+
+        return true;
+    }
+
+    /**
+     * Function for checking if methods are applicable to a problem, shared by every place problems are read
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param balancing is true if an unbalanced problem gets a dummy source or destination
+     * @return a message describing why methods are not applicable, or null if they are
+     */
+    public static String findRestrictionError(LongVector supply, LongVector demand, boolean balancing) {
+        for (int i = 0; i < supply.getLength(); i++)
+            if (supply.get(i) < 0) return "The method is not applicable!";
+
+        for (int i = 0; i < demand.getLength(); i++)
+            if (demand.get(i) < 0) return "The method is not applicable!";
+
+        if (supply.getSum() == 0 || demand.getSum() == 0)
+            return "The method is not applicable!";
+
+        if (supply.getSum() != demand.getSum() && !balancing)
+            return "The problem is not balanced!";
+
+        return null;
+    }
+}
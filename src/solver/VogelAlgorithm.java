@@ -0,0 +1,248 @@
+package solver;
+
+import structures.CellMask;
+import structures.IndexedValueConsumer;
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+import structures.Vector;
+import structures.VectorFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class for Vogel's Approximation
+ */
+public class VogelAlgorithm implements Algorithm {
+    private static final String name = "VogelAlgorithm";
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final CostIndex index;
+    private SolveListener listener = SolveListener.disabled;
+
+    /**
+     * Constructor of the sequential algorithm
+     */
+    public VogelAlgorithm() {
+        this(null, ParallelScan.defaultThreshold);
+    }
+
+    /**
+     * Constructor of the algorithm computing the penalties of rows and columns in parallel, the result is the same
+     *
+     * @param pool is a pool the penalties are computed on
+     */
+    public VogelAlgorithm(ForkJoinPool pool) {
+        this(pool, ParallelScan.defaultThreshold);
+    }
+
+    /**
+     * @param pool is a pool the penalties are computed on, or null for the sequential algorithm
+     * @param threshold is a number of cells a task scans without splitting, smaller problems are not split at all
+     */
+    public VogelAlgorithm(ForkJoinPool pool, int threshold) {
+        this(pool, threshold, null);
+    }
+
+    /**
+     * Constructor of the sequential algorithm taking the cheapest cell of the selected line from a sorted index
+     *
+     * @param index is an index of the matrix of costs, solves on other matrices scan the line instead
+     */
+    public VogelAlgorithm(CostIndex index) {
+        this(null, ParallelScan.defaultThreshold, index);
+    }
+
+    /**
+     * @param pool is a pool the penalties are computed on, or null for the sequential algorithm
+     * @param threshold is a number of cells a task scans without splitting, smaller problems are not split at all
+     * @param index is an index of the matrix of costs, or null to scan the selected line for its cheapest cell
+     */
+    public VogelAlgorithm(ForkJoinPool pool, int threshold, CostIndex index) {
+        this.pool = pool;
+        this.threshold = threshold;
+        this.index = index;
+    }
+
+    @Override
+    public void setListener(SolveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Method for solving the problem using Vogel's Approximation
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param costs is a matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, Matrix costs) {
+        return solve(supply, demand, costs, null, null, index != null && index.isBuiltFor(costs) ? index : null);
+    }
+
+    /**
+     * Method for solving the problem using Vogel's Approximation on a shared cost model.
+     * Penalties of the first step are the cached two smallest costs of every line,
+     * the cheapest cell of the selected line is taken from the index of the model if it has one
+     *
+     * @param supply is a vector of supply
+     * @param demand is a vector of demand
+     * @param model is a model of the matrix of costs
+     * @return a solution plan
+     */
+    @Override
+    public Plan solve(LongVector supply, LongVector demand, CostModel model) {
+        Matrix costs = model.getCosts();
+        CostIndex sorted = index != null && index.isBuiltFor(costs) ? index : model.getCachedIndex();
+        return solve(supply, demand, costs, model.getRowStatistics(), model.getColumnStatistics(), sorted);
+    }
+
+    /**
+     * @param rowStatistics are statistics of the rows for the first step, or null to scan them
+     * @param colStatistics are statistics of the columns for the first step, or null to scan them
+     * @param sorted is an index of the matrix of costs, or null to scan the selected line for its cheapest cell
+     */
+    private Plan solve(LongVector supply, LongVector demand, Matrix costs,
+                       CostModel.LineStatistics rowStatistics, CostModel.LineStatistics colStatistics, CostIndex sorted) {
+        Plan answer = PlanFactory.createEmptyPlan(costs.getNumberOfRows(), costs.getNumberOfColumns());
+        Vector rowsDiffs = VectorFactory.createEmptyVector(costs.getNumberOfRows());
+        Vector colsDiffs = VectorFactory.createEmptyVector(costs.getNumberOfColumns());
+        CellMask mask = new CellMask(costs.getNumberOfRows(), costs.getNumberOfColumns());
+        TwoSmallest line = new TwoSmallest();
+
+        // Cursors of the sorted lines only move forward, eliminated and used cells never become active again
+        boolean indexed = sorted != null;
+        int[] rowCursor = indexed ? new int[costs.getNumberOfRows()] : null;
+        int[] colCursor = indexed ? new int[costs.getNumberOfColumns()] : null;
+
+        boolean timed = listener.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        int steps = 0;
+        listener.solveStarted(name, costs.getNumberOfRows(), costs.getNumberOfColumns());
+
+        boolean first = rowStatistics != null;
+
+        do {
+            Cancellation.check();
+            long phaseStart = timed ? System.nanoTime() : 0;
+            if (first) {
+                // Nothing is eliminated yet, so the penalties are the differences of the two smallest costs of every line
+                for (int i = 0; i < costs.getNumberOfRows(); i++)
+                    rowsDiffs.set(i, TwoSmallest.diff(rowStatistics.getMin(i), rowStatistics.getSecondMin(i)));
+                for (int j = 0; j < costs.getNumberOfColumns(); j++)
+                    colsDiffs.set(j, TwoSmallest.diff(colStatistics.getMin(j), colStatistics.getSecondMin(j)));
+                first = false;
+            } else {
+                // Eliminated lines get a penalty of -1, so they are never picked
+                ParallelScan.forEachRange(pool, costs.getNumberOfRows(), costs.getNumberOfColumns(), threshold, (from, to) -> {
+                    TwoSmallest rowLine = new TwoSmallest();
+                    for (int i = from; i < to; i++) {
+                        rowLine.reset();
+                        mask.forEachActiveInRow(costs, i, rowLine);
+                        rowsDiffs.set(i, mask.isRowActive(i) ? rowLine.getDiff() : -1);
+                    }
+                });
+                ParallelScan.forEachRange(pool, costs.getNumberOfColumns(), costs.getNumberOfRows(), threshold, (from, to) -> {
+                    TwoSmallest colLine = new TwoSmallest();
+                    for (int j = from; j < to; j++) {
+                        colLine.reset();
+                        mask.forEachActiveInColumn(costs, j, colLine);
+                        colsDiffs.set(j, mask.isColumnActive(j) ? colLine.getDiff() : -1);
+                    }
+                });
+            }
+
+            if (timed) {
+                long now = System.nanoTime();
+                listener.phaseFinished(name, "penalties", now - phaseStart);
+                phaseStart = now;
+            }
+
+            int maxRowDiffIndex = rowsDiffs.getMaxValueIndex();
+            int maxColDiffIndex = colsDiffs.getMaxValueIndex();
+
+            int[] cellToPick = new int[2];
+            line.reset();
+            if (rowsDiffs.get(maxRowDiffIndex) > colsDiffs.get(maxColDiffIndex)) {
+                cellToPick[0] = maxRowDiffIndex;
+                if (indexed) {
+                    rowCursor[maxRowDiffIndex] = sorted.nextActiveInRow(maxRowDiffIndex, rowCursor[maxRowDiffIndex], mask);
+                    cellToPick[1] = sorted.getRowCell(maxRowDiffIndex, rowCursor[maxRowDiffIndex]);
+                } else {
+                    mask.forEachActiveInRow(costs, maxRowDiffIndex, line);
+                    cellToPick[1] = line.minIndex;
+                }
+            } else {
+                cellToPick[1] = maxColDiffIndex;
+                if (indexed) {
+                    colCursor[maxColDiffIndex] = sorted.nextActiveInColumn(maxColDiffIndex, colCursor[maxColDiffIndex], mask);
+                    cellToPick[0] = sorted.getColumnCell(maxColDiffIndex, colCursor[maxColDiffIndex]);
+                } else {
+                    mask.forEachActiveInColumn(costs, maxColDiffIndex, line);
+                    cellToPick[0] = line.minIndex;
+                }
+            }
+
+            long allocate = Math.min(supply.get(cellToPick[0]), demand.get(cellToPick[1]));
+            supply.set(cellToPick[0], supply.get(cellToPick[0]) - allocate);
+            demand.set(cellToPick[1], demand.get(cellToPick[1]) - allocate);
+            mask.markUsed(cellToPick[0], cellToPick[1]);
+
+            // Exactly one exhausted line is eliminated per step, the row if both are exhausted
+            if (supply.get(cellToPick[0]) == 0) mask.eliminateRow(cellToPick[0]);
+            else mask.eliminateColumn(cellToPick[1]);
+
+            if (allocate > 0) answer.add(cellToPick[0], cellToPick[1], allocate);
+
+            steps++;
+            listener.allocated(name, cellToPick[0], cellToPick[1], allocate, supply.get(cellToPick[0]) == 0 && demand.get(cellToPick[1]) == 0);
+            if (timed) listener.phaseFinished(name, "selection", System.nanoTime() - phaseStart);
+
+        } while (supply.getSum() != 0 || demand.getSum() != 0);
+
+        if (timed) listener.solveFinished(name, steps, answer.getTotalCost(costs), System.nanoTime() - start);
+        return answer;
+    }
+
+    /**
+     * Class for finding the two minimums of a row or a column of a matrix of costs
+     * and the first index of the minimum, reused for every line
+     */
+    private static class TwoSmallest implements IndexedValueConsumer {
+        private int min;
+        private int secondMin;
+        private int minIndex;
+
+        void reset() {
+            min = Integer.MAX_VALUE;
+            secondMin = Integer.MAX_VALUE;
+            minIndex = -1;
+        }
+
+        @Override
+        public void accept(int index, int value) {
+            if (value < min) {
+                secondMin = min;
+                min = value;
+                minIndex = index;
+            } else if (value < secondMin) {
+                secondMin = value;
+            }
+        }
+
+        /**
+         * @return the difference between the two minimums, saturated so that negative costs can not overflow it
+         */
+        int getDiff() {
+            return diff(min, secondMin);
+        }
+
+        static int diff(int min, int secondMin) {
+            return (int) Math.min((long) secondMin - min, Integer.MAX_VALUE);
+        }
+    }
+}
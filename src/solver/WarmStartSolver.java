@@ -0,0 +1,361 @@
+package solver;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+import structures.PlanFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class for solving a problem once and re-solving it after small changes of supply, demand or costs.
+ * The optimal basis of the previous solve is kept and repaired instead of being built from scratch:
+ * <ol>
+ *     <li>supply and demand changes are applied first, the old basis stays dual feasible (costs have not changed yet),
+ *     so dual simplex pivots drive the negative flows of the basis out</li>
+ *     <li>cost changes are applied next, the repaired basis stays primal feasible,
+ *     so MODI pivots bring it to the new optimum</li>
+ * </ol>
+ * When few entries change, both phases take a few pivots
+ */
+public class WarmStartSolver {
+    private final int rows;
+    private final int cols;
+    private final LongVector supply;
+    private final LongVector demand;
+    private final Matrix costs;
+    private final Algorithm initial;
+
+    // Cells of the current basis, m + n - 1 of them forming a spanning tree of rows and columns
+    private int[] basisRow;
+    private int[] basisCol;
+    private final List<int[]> pendingCosts = new ArrayList<>();
+
+    private Plan plan;
+    private int dualPivots;
+    private int primalPivots;
+
+    /**
+     * Constructor, the first solve starts from Vogel's Approximation
+     *
+     * @param supply is a vector of supply, it is copied
+     * @param demand is a vector of demand, it is copied
+     * @param costs is a matrix of costs, it is copied so that costs can be changed
+     */
+    public WarmStartSolver(LongVector supply, LongVector demand, Matrix costs) {
+        this(supply, demand, costs, new IncrementalVogelAlgorithm());
+    }
+
+    /**
+     * @param supply is a vector of supply, it is copied
+     * @param demand is a vector of demand, it is copied
+     * @param costs is a matrix of costs, it is copied so that costs can be changed
+     * @param initial is an algorithm used for finding the initial basic feasible solution of the first solve
+     */
+    public WarmStartSolver(LongVector supply, LongVector demand, Matrix costs, Algorithm initial) {
+        this.rows = costs.getNumberOfRows();
+        this.cols = costs.getNumberOfColumns();
+        if (supply.getLength() != rows || demand.getLength() != cols)
+            throw new IllegalArgumentException("Sizes of supply and demand do not match the matrix of costs.");
+
+        this.supply = supply.buildClone();
+        this.demand = demand.buildClone();
+        this.costs = costs.buildClone();
+        this.initial = initial;
+    }
+
+    /**
+     * Method for solving the problem from scratch, pending changes are applied first
+     *
+     * @return an optimal plan of m + n - 1 basic cells
+     */
+    public Plan solve() {
+        applyPendingCosts();
+        checkQuantities();
+
+        ModiAlgorithm modi = new ModiAlgorithm(initial);
+        dualPivots = 0;
+        keep(modi.solve(supply.buildClone(), demand.buildClone(), costs));
+        primalPivots = modi.getIterations();
+        return plan;
+    }
+
+    /**
+     * Method for finding the optimum after the changes made since the last solve, starting from its basis
+     *
+     * @return an optimal plan of m + n - 1 basic cells
+     * @throws IllegalStateException if the changed problem is not balanced or has negative quantities
+     */
+    public Plan resolve() {
+        if (basisRow == null)
+            return solve();
+
+        checkQuantities();
+
+        dualPivots = 0;
+        long[] flows = computeFlows();
+        for (int leaving = mostNegative(flows); leaving >= 0; leaving = mostNegative(flows)) {
+            dualPivot(leaving);
+            dualPivots++;
+            flows = computeFlows();
+        }
+
+        applyPendingCosts();
+
+        Plan repaired = PlanFactory.createEmptyPlan(rows, cols);
+        for (int e = 0; e < basisRow.length; e++)
+            repaired.add(basisRow[e], basisCol[e], flows[e]);
+
+        ModiAlgorithm modi = new ModiAlgorithm((s, d, c) -> repaired);
+        keep(modi.solve(supply.buildClone(), demand.buildClone(), costs));
+        primalPivots = modi.getIterations();
+        return plan;
+    }
+
+    /**
+     * Method for changing the supply of a source, the change is used by the next resolve
+     *
+     * @param row is an index of the source
+     * @param delta is a value added to its supply
+     */
+    public void changeSupply(int row, long delta) {
+        supply.set(row, Math.addExact(supply.get(row), delta));
+    }
+
+    /**
+     * Method for changing the demand of a destination, the change is used by the next resolve
+     *
+     * @param col is an index of the destination
+     * @param delta is a value added to its demand
+     */
+    public void changeDemand(int col, long delta) {
+        demand.set(col, Math.addExact(demand.get(col), delta));
+    }
+
+    /**
+     * Method for changing the cost of a cell, the change is used by the next resolve
+     *
+     * @param row is an index of the source
+     * @param col is an index of the destination
+     * @param cost is a new cost of the cell
+     */
+    public void changeCost(int row, int col, int cost) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols)
+            throw new IndexOutOfBoundsException();
+
+        pendingCosts.add(new int[]{row, col, cost});
+    }
+
+    /**
+     * @return the plan of the last solve or resolve
+     */
+    public Plan getPlan() {
+        return plan;
+    }
+
+    /**
+     * @return a number of dual simplex pivots made by the last resolve
+     */
+    public int getDualPivots() {
+        return dualPivots;
+    }
+
+    /**
+     * @return a number of MODI pivots made by the last solve or resolve
+     */
+    public int getPrimalPivots() {
+        return primalPivots;
+    }
+
+    private void keep(Plan optimal) {
+        plan = optimal;
+        basisRow = new int[optimal.getSize()];
+        basisCol = new int[optimal.getSize()];
+        for (int e = 0; e < optimal.getSize(); e++) {
+            basisRow[e] = optimal.getRow(e);
+            basisCol[e] = optimal.getColumn(e);
+        }
+    }
+
+    private void applyPendingCosts() {
+        for (int[] change : pendingCosts)
+            costs.setItem(change[0], change[1], change[2]);
+        pendingCosts.clear();
+    }
+
+    private void checkQuantities() {
+        for (int i = 0; i < rows; i++)
+            if (supply.get(i) < 0)
+                throw new IllegalStateException("Supply of source " + i + " is negative.");
+        for (int j = 0; j < cols; j++)
+            if (demand.get(j) < 0)
+                throw new IllegalStateException("Demand of destination " + j + " is negative.");
+        if (supply.getSum() != demand.getSum())
+            throw new IllegalStateException("The problem is not balanced!");
+    }
+
+    /**
+     * Method for replacing a basic cell with a negative flow. The cell is removed, splitting the tree into the side
+     * of its row and the side of its column. The entering cell goes from a row on the column side to a column on the row side,
+     * which is the direction that raises the flow of the removed cell; the one with the smallest reduced cost keeps the basis dual feasible
+     *
+     * @param leaving is an index of the basic cell with a negative flow
+     */
+    private void dualPivot(int leaving) {
+        long[] rowPotential = new long[rows];
+        long[] colPotential = new long[cols];
+        computePotentials(rowPotential, colPotential);
+
+        boolean[] rowSide = new boolean[rows + cols];
+        markRowSide(leaving, rowSide);
+
+        int enterRow = -1;
+        int enterCol = -1;
+        long best = Long.MAX_VALUE;
+        for (int p = 0; p < rows; p++) {
+            if (rowSide[p]) continue;
+            for (int q = 0; q < cols; q++) {
+                if (!rowSide[rows + q]) continue;
+
+                long reducedCost = costs.getItem(p, q) - rowPotential[p] - colPotential[q];
+                if (reducedCost < best) {
+                    best = reducedCost;
+                    enterRow = p;
+                    enterCol = q;
+                }
+            }
+        }
+
+        if (enterRow == -1)
+            throw new IllegalStateException("The problem has no feasible solution.");
+
+        basisRow[leaving] = enterRow;
+        basisCol[leaving] = enterCol;
+    }
+
+    /**
+     * Method for computing the flows of the basic cells by peeling leaves of the basis tree.
+     * Flows are determined by supply and demand alone and are negative if the basis is not feasible
+     */
+    private long[] computeFlows() {
+        int nodes = rows + cols;
+        int[][] incident = incidence();
+        int[] degree = new int[nodes];
+        long[] remaining = new long[nodes];
+        boolean[] assigned = new boolean[basisRow.length];
+        long[] flows = new long[basisRow.length];
+
+        for (int node = 0; node < nodes; node++) {
+            degree[node] = incident[node].length;
+            remaining[node] = node < rows ? supply.get(node) : demand.get(node - rows);
+        }
+
+        int[] queue = new int[nodes];
+        int head = 0, tail = 0;
+        for (int node = 0; node < nodes; node++)
+            if (degree[node] == 1) queue[tail++] = node;
+
+        while (head < tail) {
+            int leaf = queue[head++];
+            if (degree[leaf] != 1) continue;
+
+            int edge = -1;
+            for (int e : incident[leaf])
+                if (!assigned[e]) edge = e;
+
+            int other = leaf < rows ? rows + basisCol[edge] : basisRow[edge];
+            assigned[edge] = true;
+            flows[edge] = remaining[leaf];
+            remaining[other] -= remaining[leaf];
+            degree[leaf]--;
+            if (--degree[other] == 1) queue[tail++] = other;
+        }
+
+        return flows;
+    }
+
+    /**
+     * Method for computing potentials u, v with u[i] + v[j] = c[i][j] on every basic cell and u[0] = 0
+     */
+    private void computePotentials(long[] rowPotential, long[] colPotential) {
+        int[][] incident = incidence();
+        boolean[] known = new boolean[rows + cols];
+        int[] queue = new int[rows + cols];
+        int head = 0, tail = 0;
+
+        known[0] = true;
+        queue[tail++] = 0;
+        while (head < tail) {
+            int node = queue[head++];
+            for (int e : incident[node]) {
+                int i = basisRow[e];
+                int j = basisCol[e];
+                if (node < rows && !known[rows + j]) {
+                    colPotential[j] = costs.getItem(i, j) - rowPotential[i];
+                    known[rows + j] = true;
+                    queue[tail++] = rows + j;
+                } else if (node >= rows && !known[i]) {
+                    rowPotential[i] = costs.getItem(i, j) - colPotential[j];
+                    known[i] = true;
+                    queue[tail++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for marking the nodes still connected to the row of a basic cell once the cell is removed
+     */
+    private void markRowSide(int removed, boolean[] side) {
+        int[][] incident = incidence();
+        int[] queue = new int[rows + cols];
+        int head = 0, tail = 0;
+
+        side[basisRow[removed]] = true;
+        queue[tail++] = basisRow[removed];
+        while (head < tail) {
+            int node = queue[head++];
+            for (int e : incident[node]) {
+                if (e == removed) continue;
+
+                int other = node < rows ? rows + basisCol[e] : basisRow[e];
+                if (!side[other]) {
+                    side[other] = true;
+                    queue[tail++] = other;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return for every node (rows first, then columns) the indices of the basic cells it belongs to
+     */
+    private int[][] incidence() {
+        int[] degree = new int[rows + cols];
+        for (int e = 0; e < basisRow.length; e++) {
+            degree[basisRow[e]]++;
+            degree[rows + basisCol[e]]++;
+        }
+
+        int[][] incident = new int[rows + cols][];
+        for (int node = 0; node < incident.length; node++)
+            incident[node] = new int[degree[node]];
+
+        int[] filled = new int[rows + cols];
+        for (int e = 0; e < basisRow.length; e++) {
+            incident[basisRow[e]][filled[basisRow[e]]++] = e;
+            incident[rows + basisCol[e]][filled[rows + basisCol[e]]++] = e;
+        }
+
+        return incident;
+    }
+
+    private static int mostNegative(long[] flows) {
+        int index = -1;
+        for (int e = 0; e < flows.length; e++)
+            if (flows[e] < 0 && (index == -1 || flows[e] < flows[index]))
+                index = e;
+        return index;
+    }
+}
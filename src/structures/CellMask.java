@@ -0,0 +1,100 @@
+package structures;
+
+import java.util.BitSet;
+
+/**
+ * Class for tracking which rows, columns and cells of a transportation table an algorithm has already used.
+ * The matrix of costs itself is never modified, so it can be shared between runs and may hold any values
+ */
+public class CellMask {
+    private final int rows;
+    private final int cols;
+    private final BitSet activeRows;
+    private final BitSet activeCols;
+    private final BitSet usedCells;
+
+    /**
+     * Mask constructor (all rows, columns and cells are active)
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public CellMask(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.activeRows = new BitSet(rows);
+        this.activeCols = new BitSet(cols);
+        this.usedCells = new BitSet();
+        this.activeRows.set(0, rows);
+        this.activeCols.set(0, cols);
+    }
+
+    public boolean isRowActive(int row) {
+        return activeRows.get(row);
+    }
+
+    public boolean isColumnActive(int col) {
+        return activeCols.get(col);
+    }
+
+    /**
+     * @return true if the cell's row and column are active and the cell itself is not used
+     */
+    public boolean isActive(int row, int col) {
+        return activeRows.get(row) && activeCols.get(col) && !usedCells.get(row * cols + col);
+    }
+
+    public void eliminateRow(int row) {
+        checkRow(row);
+        activeRows.clear(row);
+    }
+
+    public void eliminateColumn(int col) {
+        checkColumn(col);
+        activeCols.clear(col);
+    }
+
+    public void markUsed(int row, int col) {
+        checkRow(row);
+        checkColumn(col);
+        usedCells.set(row * cols + col);
+    }
+
+    /**
+     * Method for iterating over the active cells of a row
+     * @param costs is a matrix of costs
+     * @param row is an index of the row
+     * @param consumer receives the column and the cost of every active cell
+     */
+    public void forEachActiveInRow(Matrix costs, int row, IndexedValueConsumer consumer) {
+        if (!activeRows.get(row)) return;
+
+        Vector line = costs.getRowView(row);
+        int base = row * cols;
+        for (int j = activeCols.nextSetBit(0); j >= 0; j = activeCols.nextSetBit(j + 1))
+            if (!usedCells.get(base + j)) consumer.accept(j, line.get(j));
+    }
+
+    /**
+     * Method for iterating over the active cells of a column
+     * @param costs is a matrix of costs
+     * @param col is an index of the column
+     * @param consumer receives the row and the cost of every active cell
+     */
+    public void forEachActiveInColumn(Matrix costs, int col, IndexedValueConsumer consumer) {
+        if (!activeCols.get(col)) return;
+
+        Vector line = costs.getColumnView(col);
+        for (int i = activeRows.nextSetBit(0); i >= 0; i = activeRows.nextSetBit(i + 1))
+            if (!usedCells.get(i * cols + col)) consumer.accept(i, line.get(i));
+    }
+
+    private void checkRow(int row) {
+        if (row >= this.rows || row < 0)
+            throw new IndexOutOfBoundsException();
+    }
+
+    private void checkColumn(int col) {
+        if (col >= this.cols || col < 0)
+            throw new IndexOutOfBoundsException();
+    }
+}
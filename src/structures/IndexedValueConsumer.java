@@ -0,0 +1,9 @@
+package structures;
+
+/**
+ * Callback receiving an index of an element and its value without boxing
+ */
+@FunctionalInterface
+public interface IndexedValueConsumer {
+    void accept(int index, int value);
+}
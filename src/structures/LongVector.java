@@ -0,0 +1,19 @@
+package structures;
+
+/**
+ * Vector of 64-bit values for quantities (supply, demand, shipped amounts) that do not fit into an int
+ */
+public interface LongVector {
+    LongVector plus(LongVector other);
+    LongVector minus(LongVector other);
+
+    long get(int index);
+    void set(int index, long value);
+
+    long getSum();
+    int getLength();
+    int getMinValueIndex();
+    int getMaxValueIndex();
+
+    LongVector buildClone();
+}
@@ -13,6 +13,12 @@ public interface Matrix {
     Vector getRow(int row);
     Vector getColumn(int col);
 
+    /**
+     * Read-only views share the storage of the matrix, nothing is copied
+     */
+    Vector getRowView(int row);
+    Vector getColumnView(int col);
+
     int getNumberOfRows();
     int getNumberOfColumns();
 
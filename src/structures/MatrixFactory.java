@@ -1,7 +1,12 @@
 package structures;
 
 import structures.implementations.ArrayMatrix;
+import structures.implementations.ExtendedMatrix;
+import structures.implementations.FlatMatrix;
+import structures.implementations.MappedMatrix;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.util.Scanner;
 
 public class MatrixFactory {
@@ -9,6 +14,43 @@ public class MatrixFactory {
         return new ArrayMatrix(rows, cols);
     }
 
+    public static FlatMatrix createFlatMatrix(int rows, int cols) {
+        return new FlatMatrix(rows, cols, true);
+    }
+
+    public static FlatMatrix createUncheckedFlatMatrix(int rows, int cols) {
+        return new FlatMatrix(rows, cols, false);
+    }
+
+    /**
+     * Maps a read-only matrix stored row-major as big-endian ints, nothing is read until items are accessed
+     * @param channel is a channel of the file, it may be closed once the matrix is created
+     * @param offset is a position of the first item in the file
+     * @param rows number of rows
+     * @param cols number of columns
+     * @return a matrix backed by the mapped file
+     * @throws IOException if the file cannot be mapped
+     */
+    public static Matrix createMappedMatrix(FileChannel channel, long offset, int rows, int cols) throws IOException {
+        return new MappedMatrix(channel, offset, rows, cols);
+    }
+
+    /**
+     * Extends a matrix with rows and columns of one value without copying it
+     * @param base is a matrix to extend
+     * @param extraRows number of rows added below the matrix
+     * @param extraCols number of columns added to the right of the matrix
+     * @param extraValue is a value of every added item
+     * @return a read-only view of the extended matrix
+     */
+    public static Matrix createExtendedMatrix(Matrix base, int extraRows, int extraCols, int extraValue) {
+        return new ExtendedMatrix(base, extraRows, extraCols, extraValue);
+    }
+
+    /**
+     * @deprecated the input is read by {@link io.InputParser#readMatrix(int)}
+     */
+    @Deprecated
     public static Matrix createMatrixFromInput(int rows, int cols, Scanner scanner) {
         Matrix matrix = new ArrayMatrix(rows, cols);
 
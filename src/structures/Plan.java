@@ -0,0 +1,21 @@
+package structures;
+
+/**
+ * Sparse solution of a transportation problem: a list of (row, column, amount) cells,
+ * all other cells of the m x n plan are 0
+ */
+public interface Plan {
+    void add(int row, int col, long amount);
+
+    int getSize();
+    int getRow(int index);
+    int getColumn(int index);
+    long getAmount(int index);
+
+    int getNumberOfRows();
+    int getNumberOfColumns();
+
+    long getTotalCost(Matrix costs);
+
+    LongVector toVector();
+}
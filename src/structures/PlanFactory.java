@@ -0,0 +1,9 @@
+package structures;
+
+import structures.implementations.ArrayPlan;
+
+public class PlanFactory {
+    public static Plan createEmptyPlan(int rows, int cols) {
+        return new ArrayPlan(rows, cols);
+    }
+}
@@ -1,6 +1,8 @@
 package structures;
 
+import structures.implementations.ArrayLongVector;
 import structures.implementations.ArrayVector;
+import structures.implementations.StridedVector;
 
 import java.util.Scanner;
 
@@ -9,6 +11,17 @@ public class VectorFactory {
         return new ArrayVector(length);
     }
 
+    /**
+     * Creates a vector viewing values[offset], values[offset + stride], ... without copying them
+     */
+    public static Vector createVectorView(int[] values, int offset, int stride, int length) {
+        return new StridedVector(values, offset, stride, length, true, true);
+    }
+
+    /**
+     * @deprecated the input is read by {@link io.InputParser#readLongVectorLine(int)}
+     */
+    @Deprecated
     public static Vector createVectorFromInput(int length, Scanner scanner) {
         Vector vector = new ArrayVector(length);
 
@@ -17,4 +30,8 @@ public class VectorFactory {
 
         return vector;
     }
+
+    public static LongVector createEmptyLongVector(int length) {
+        return new ArrayLongVector(length);
+    }
 }
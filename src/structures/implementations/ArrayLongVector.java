@@ -0,0 +1,104 @@
+package structures.implementations;
+
+import structures.LongVector;
+
+public class ArrayLongVector implements LongVector {
+    private final int length;
+    private final long[] values;
+
+    public ArrayLongVector(int length) {
+        this.length = length;
+        this.values = new long[length];
+    }
+
+    @Override
+    public LongVector plus(LongVector other) {
+        if (this.length != other.getLength())
+            throw new IllegalArgumentException();
+
+        LongVector result = new ArrayLongVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, Math.addExact(this.values[i], other.get(i)));
+
+        return result;
+    }
+
+    @Override
+    public LongVector minus(LongVector other) {
+        if (this.length != other.getLength())
+            throw new IllegalArgumentException();
+
+        LongVector result = new ArrayLongVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, Math.subtractExact(this.values[i], other.get(i)));
+
+        return result;
+    }
+
+    @Override
+    public long get(int index) {
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException();
+
+        return values[index];
+    }
+
+    @Override
+    public void set(int index, long value) {
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException();
+
+        values[index] = value;
+    }
+
+    /**
+     * Function for summing up the vector
+     * @return the sum of all elements
+     * @throws ArithmeticException if the sum does not fit into a long
+     */
+    @Override
+    public long getSum() {
+        long sum = 0;
+
+        for (int i = 0; i < length; i++)
+            sum = Math.addExact(sum, values[i]);
+
+        return sum;
+    }
+
+    @Override
+    public int getLength() {
+        return this.length;
+    }
+
+    @Override
+    public int getMinValueIndex() {
+        int minIndex = 0;
+
+        for (int i = 1; i < length; i++)
+            if (values[i] < values[minIndex])
+                minIndex = i;
+
+        return minIndex;
+    }
+
+    @Override
+    public int getMaxValueIndex() {
+        int maxIndex = 0;
+
+        for (int i = 1; i < length; i++)
+            if (values[i] > values[maxIndex])
+                maxIndex = i;
+
+        return maxIndex;
+    }
+
+    @Override
+    public LongVector buildClone() {
+        ArrayLongVector result = new ArrayLongVector(this.length);
+        System.arraycopy(this.values, 0, result.values, 0, this.length);
+        return result;
+    }
+}
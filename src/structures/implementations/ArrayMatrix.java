@@ -131,6 +131,22 @@ public class ArrayMatrix implements Matrix {
         return v;
     }
 
+    @Override
+    public Vector getRowView(int row) {
+        if (row >= this.rows || row < 0)
+            throw new IndexOutOfBoundsException();
+
+        return new StridedVector(this.values[row], 0, 1, this.cols, true, false);
+    }
+
+    @Override
+    public Vector getColumnView(int col) {
+        if (col >= this.cols || col < 0)
+            throw new IndexOutOfBoundsException();
+
+        return new ColumnView(this.values, col);
+    }
+
     @Override
     public void setItem(int row, int col, int value) {
         if (row >= this.rows || col >= this.cols || row < 0 || col < 0)
@@ -0,0 +1,127 @@
+package structures.implementations;
+
+import structures.LongVector;
+import structures.Matrix;
+import structures.Plan;
+
+import java.util.Arrays;
+
+/**
+ * Class of sparse plans, cells are kept in three parallel primitive arrays
+ */
+public class ArrayPlan implements Plan {
+    private final int rows;
+    private final int cols;
+    private int size;
+    private int[] cellRows;
+    private int[] cellCols;
+    private long[] amounts;
+
+    /**
+     * Plan constructor (no cells), the storage is sized for a basic solution of m + n - 1 cells
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public ArrayPlan(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+
+        int capacity = Math.max(rows + cols - 1, 1);
+        this.cellRows = new int[capacity];
+        this.cellCols = new int[capacity];
+        this.amounts = new long[capacity];
+    }
+
+    /**
+     * Method for appending a cell to the plan
+     * @param row is a row of the cell
+     * @param col is a column of the cell
+     * @param amount is an amount shipped through the cell
+     */
+    @Override
+    public void add(int row, int col, long amount) {
+        if (row >= this.rows || col >= this.cols || row < 0 || col < 0)
+            throw new IndexOutOfBoundsException();
+
+        if (size == amounts.length) {
+            cellRows = Arrays.copyOf(cellRows, size * 2);
+            cellCols = Arrays.copyOf(cellCols, size * 2);
+            amounts = Arrays.copyOf(amounts, size * 2);
+        }
+
+        cellRows[size] = row;
+        cellCols[size] = col;
+        amounts[size] = amount;
+        size++;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int getRow(int index) {
+        checkIndex(index);
+        return cellRows[index];
+    }
+
+    @Override
+    public int getColumn(int index) {
+        checkIndex(index);
+        return cellCols[index];
+    }
+
+    @Override
+    public long getAmount(int index) {
+        checkIndex(index);
+        return amounts[index];
+    }
+
+    @Override
+    public int getNumberOfRows() {
+        return this.rows;
+    }
+
+    @Override
+    public int getNumberOfColumns() {
+        return this.cols;
+    }
+
+    /**
+     * Function for evaluating the objective of the plan
+     * @param costs is a matrix of costs
+     * @return sum of cost * amount over all cells of the plan
+     * @throws ArithmeticException if the objective does not fit into a long
+     */
+    @Override
+    public long getTotalCost(Matrix costs) {
+        long total = 0;
+
+        for (int k = 0; k < size; k++)
+            total = Math.addExact(total, Math.multiplyExact(costs.getItem(cellRows[k], cellCols[k]), amounts[k]));
+
+        return total;
+    }
+
+    /**
+     * Method for building a dense m * n vector of the plan in row-major order
+     * @return a new vector, amounts of repeated cells are added up
+     */
+    @Override
+    public LongVector toVector() {
+        LongVector result = new ArrayLongVector(Math.multiplyExact(this.rows, this.cols));
+
+        for (int k = 0; k < size; k++) {
+            int index = cellRows[k] * this.cols + cellCols[k];
+            result.set(index, result.get(index) + amounts[k]);
+        }
+
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+    }
+}
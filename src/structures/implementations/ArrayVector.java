@@ -54,8 +54,8 @@ public class ArrayVector implements Vector {
     }
 
     @Override
-    public int getSum() {
-        int sum = 0;
+    public long getSum() {
+        long sum = 0;
 
         for (int i = 0; i < length; i++)
             sum += values[i];
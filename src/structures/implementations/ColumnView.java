@@ -0,0 +1,132 @@
+package structures.implementations;
+
+import structures.Vector;
+
+import java.util.Iterator;
+
+/**
+ * Class of read-only vectors viewing a column of a two-dimensional array without copying it
+ */
+public class ColumnView implements Vector {
+    private final int[][] values;
+    private final int col;
+    private final int length;
+
+    /**
+     * View constructor
+     * @param values is an array of rows
+     * @param col is an index of the viewed column
+     */
+    public ColumnView(int[][] values, int col) {
+        this.values = values;
+        this.col = col;
+        this.length = values.length;
+    }
+
+    @Override
+    public Vector plus(Vector other) {
+        if (this.length != other.getLength())
+            throw new IllegalArgumentException();
+
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, this.values[i][col] + other.get(i));
+
+        return result;
+    }
+
+    @Override
+    public Vector minus(Vector other) {
+        if (this.length != other.getLength())
+            throw new IllegalArgumentException();
+
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, this.values[i][col] - other.get(i));
+
+        return result;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException();
+
+        return values[index][col];
+    }
+
+    @Override
+    public void set(int index, int value) {
+        throw new UnsupportedOperationException("Vector view is read-only.");
+    }
+
+    @Override
+    public long getSum() {
+        long sum = 0;
+
+        for (int i = 0; i < length; i++)
+            sum += values[i][col];
+
+        return sum;
+    }
+
+    @Override
+    public int getLength() {
+        return this.length;
+    }
+
+    @Override
+    public int getMinValueIndex() {
+        int minIndex = 0;
+
+        for (int i = 1; i < length; i++)
+            if (values[i][col] < values[minIndex][col])
+                minIndex = i;
+
+        return minIndex;
+    }
+
+    @Override
+    public int getMaxValueIndex() {
+        int maxIndex = 0;
+
+        for (int i = 1; i < length; i++)
+            if (values[i][col] > values[maxIndex][col])
+                maxIndex = i;
+
+        return maxIndex;
+    }
+
+    /**
+     * Method for copying the viewed column into a new independent vector
+     * @return a new ArrayVector
+     */
+    @Override
+    public Vector buildClone() {
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, this.values[i][col]);
+
+        return result;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < length;
+            }
+
+            @Override
+            public Integer next() {
+                return values[index++][col];
+            }
+        };
+    }
+}
@@ -0,0 +1,172 @@
+package structures.implementations;
+
+import structures.Matrix;
+import structures.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class of read-only matrices extending another matrix with extra rows and columns of one constant value.
+ * The extended matrix is not copied, items inside it are read from it, all others are the constant.
+ * Used for the dummy source or destination of an unbalanced problem
+ */
+public class ExtendedMatrix implements Matrix {
+    private final Matrix base;
+    private final int baseRows;
+    private final int baseCols;
+    private final int rows;
+    private final int cols;
+    private final int extraValue;
+
+    /**
+     * Matrix constructor
+     * @param base is a matrix to extend, later changes of it are visible through the extension
+     * @param extraRows number of rows added below the matrix
+     * @param extraCols number of columns added to the right of the matrix
+     * @param extraValue is a value of every added item
+     */
+    public ExtendedMatrix(Matrix base, int extraRows, int extraCols, int extraValue) {
+        if (extraRows < 0 || extraCols < 0)
+            throw new IllegalArgumentException();
+
+        this.base = base;
+        this.baseRows = base.getNumberOfRows();
+        this.baseCols = base.getNumberOfColumns();
+        this.rows = baseRows + extraRows;
+        this.cols = baseCols + extraCols;
+        this.extraValue = extraValue;
+    }
+
+    @Override
+    public Matrix plus(Matrix other) {
+        if (this.rows != other.getNumberOfRows() || this.cols != other.getNumberOfColumns())
+            throw new IllegalArgumentException();
+
+        Matrix result = new FlatMatrix(this.rows, this.cols);
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                result.setItem(i, j, getItem(i, j) + other.getItem(i, j));
+
+        return result;
+    }
+
+    @Override
+    public Matrix minus(Matrix other) {
+        if (this.rows != other.getNumberOfRows() || this.cols != other.getNumberOfColumns())
+            throw new IllegalArgumentException();
+
+        Matrix result = new FlatMatrix(this.rows, this.cols);
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                result.setItem(i, j, getItem(i, j) - other.getItem(i, j));
+
+        return result;
+    }
+
+    @Override
+    public List<Vector> getRows() {
+        List<Vector> rows = new ArrayList<>();
+
+        for (int i = 0; i < this.rows; i++)
+            rows.add(this.getRow(i));
+
+        return rows;
+    }
+
+    @Override
+    public List<Vector> getColumns() {
+        List<Vector> cols = new ArrayList<>();
+
+        for (int i = 0; i < this.cols; i++)
+            cols.add(this.getColumn(i));
+
+        return cols;
+    }
+
+    @Override
+    public int getItem(int row, int col) {
+        if (row >= this.rows || col >= this.cols || row < 0 || col < 0)
+            throw new IndexOutOfBoundsException();
+
+        if (row < baseRows && col < baseCols)
+            return base.getItem(row, col);
+        return extraValue;
+    }
+
+    @Override
+    public int getNumberOfRows() {
+        return this.rows;
+    }
+
+    @Override
+    public int getNumberOfColumns() {
+        return this.cols;
+    }
+
+    @Override
+    public Vector getRow(int row) {
+        return getRowView(row).buildClone();
+    }
+
+    @Override
+    public Vector getColumn(int col) {
+        return getColumnView(col).buildClone();
+    }
+
+    @Override
+    public Vector getRowView(int row) {
+        return new MatrixLineView(this, row, true);
+    }
+
+    @Override
+    public Vector getColumnView(int col) {
+        return new MatrixLineView(this, col, false);
+    }
+
+    @Override
+    public void setItem(int row, int col, int value) {
+        throw new UnsupportedOperationException("Extended matrix is read-only.");
+    }
+
+    @Override
+    public void setRow(int row, Vector vector) {
+        throw new UnsupportedOperationException("Extended matrix is read-only.");
+    }
+
+    @Override
+    public void setColumn(int col, Vector vector) {
+        throw new UnsupportedOperationException("Extended matrix is read-only.");
+    }
+
+    @Override
+    public int[] getCoordsOfMostNegative() {
+        int[] coords = new int[2];
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                if (getItem(i, j) < getItem(coords[0], coords[1])) {
+                    coords[0] = i;
+                    coords[1] = j;
+                }
+
+        return coords;
+    }
+
+    /**
+     * Method for copying the extended matrix with its extra rows and columns
+     * @return a FlatMatrix with the same items
+     */
+    @Override
+    public Matrix buildClone() {
+        Matrix result = new FlatMatrix(this.rows, this.cols);
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                result.setItem(i, j, getItem(i, j));
+
+        return result;
+    }
+}
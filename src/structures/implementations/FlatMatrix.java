@@ -0,0 +1,218 @@
+package structures.implementations;
+
+import structures.Matrix;
+import structures.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class of matrices stored in a single row-major array: item (i, j) is values[i * cols + j].
+ * A matrix created unchecked skips the row and column bounds checks of getItem and setItem,
+ * so hot loops cost one array access per item
+ */
+public class FlatMatrix implements Matrix {
+    private final int rows;
+    private final int cols;
+    private final int[] values;
+    private final boolean checked;
+
+    /**
+     * Matrix constructor (sets all elements to 0), indices are checked
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public FlatMatrix(int rows, int cols) {
+        this(rows, cols, true);
+    }
+
+    /**
+     * Matrix constructor (sets all elements to 0)
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param checked whether row and column indices are checked on every access
+     */
+    public FlatMatrix(int rows, int cols, boolean checked) {
+        this.rows = rows;
+        this.cols = cols;
+        this.values = new int[Math.multiplyExact(rows, cols)];
+        this.checked = checked;
+    }
+
+    @Override
+    public Matrix plus(Matrix other) {
+        if (this.rows != other.getNumberOfRows() || this.cols != other.getNumberOfColumns())
+            throw new IllegalArgumentException();
+
+        FlatMatrix result = new FlatMatrix(this.rows, this.cols, this.checked);
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                result.values[i * cols + j] = this.values[i * cols + j] + other.getItem(i, j);
+
+        return result;
+    }
+
+    @Override
+    public Matrix minus(Matrix other) {
+        if (this.rows != other.getNumberOfRows() || this.cols != other.getNumberOfColumns())
+            throw new IllegalArgumentException();
+
+        FlatMatrix result = new FlatMatrix(this.rows, this.cols, this.checked);
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                result.values[i * cols + j] = this.values[i * cols + j] - other.getItem(i, j);
+
+        return result;
+    }
+
+    @Override
+    public List<Vector> getRows() {
+        List<Vector> rows = new ArrayList<>();
+
+        for (int i = 0; i < this.rows; i++)
+            rows.add(this.getRow(i));
+
+        return rows;
+    }
+
+    @Override
+    public List<Vector> getColumns() {
+        List<Vector> cols = new ArrayList<>();
+
+        for (int i = 0; i < this.cols; i++)
+            cols.add(this.getColumn(i));
+
+        return cols;
+    }
+
+    @Override
+    public int getItem(int row, int col) {
+        if (checked && (row >= this.rows || col >= this.cols || row < 0 || col < 0))
+            throw new IndexOutOfBoundsException();
+
+        return values[row * cols + col];
+    }
+
+    @Override
+    public int getNumberOfRows() {
+        return this.rows;
+    }
+
+    @Override
+    public int getNumberOfColumns() {
+        return this.cols;
+    }
+
+    @Override
+    public Vector getRow(int row) {
+        return getRowView(row).buildClone();
+    }
+
+    @Override
+    public Vector getColumn(int col) {
+        return getColumnView(col).buildClone();
+    }
+
+    @Override
+    public Vector getRowView(int row) {
+        if (row >= this.rows || row < 0)
+            throw new IndexOutOfBoundsException();
+
+        return new StridedVector(values, row * cols, 1, cols, checked, false);
+    }
+
+    @Override
+    public Vector getColumnView(int col) {
+        if (col >= this.cols || col < 0)
+            throw new IndexOutOfBoundsException();
+
+        return new StridedVector(values, col, cols, rows, checked, false);
+    }
+
+    /**
+     * Method for viewing a row without copying it, writes to the view change the matrix
+     * @param row is an index of the row
+     * @return a vector sharing the storage of the matrix
+     */
+    public Vector getWritableRowView(int row) {
+        if (row >= this.rows || row < 0)
+            throw new IndexOutOfBoundsException();
+
+        return new StridedVector(values, row * cols, 1, cols, checked, true);
+    }
+
+    /**
+     * Method for viewing a column without copying it, writes to the view change the matrix
+     * @param col is an index of the column
+     * @return a vector sharing the storage of the matrix
+     */
+    public Vector getWritableColumnView(int col) {
+        if (col >= this.cols || col < 0)
+            throw new IndexOutOfBoundsException();
+
+        return new StridedVector(values, col, cols, rows, checked, true);
+    }
+
+    /**
+     * Method for direct access to the storage, item (i, j) is at index i * getNumberOfColumns() + j
+     * @return the backing array of the matrix
+     */
+    public int[] getValues() {
+        return values;
+    }
+
+    @Override
+    public void setItem(int row, int col, int value) {
+        if (checked && (row >= this.rows || col >= this.cols || row < 0 || col < 0))
+            throw new IndexOutOfBoundsException();
+
+        values[row * cols + col] = value;
+    }
+
+    @Override
+    public void setRow(int row, Vector vector) {
+        if (vector.getLength() != this.cols)
+            throw new IllegalArgumentException();
+
+        if (row >= this.rows || row < 0)
+            throw new IndexOutOfBoundsException();
+
+        for (int i = 0; i < this.cols; i++)
+            this.values[row * cols + i] = vector.get(i);
+    }
+
+    @Override
+    public void setColumn(int col, Vector vector) {
+        if (vector.getLength() != this.rows)
+            throw new IllegalArgumentException();
+
+        if (col >= this.cols || col < 0)
+            throw new IndexOutOfBoundsException();
+
+        for (int i = 0; i < this.rows; i++)
+            this.values[i * cols + col] = vector.get(i);
+    }
+
+    @Override
+    public int[] getCoordsOfMostNegative() {
+        int[] coords = new int[2];
+        int minIndex = 0;
+
+        for (int k = 1; k < values.length; k++)
+            if (values[k] < values[minIndex])
+                minIndex = k;
+
+        coords[0] = minIndex / cols;
+        coords[1] = minIndex % cols;
+        return coords;
+    }
+
+    @Override
+    public Matrix buildClone() {
+        FlatMatrix result = new FlatMatrix(this.rows, this.cols, this.checked);
+        System.arraycopy(this.values, 0, result.values, 0, this.values.length);
+        return result;
+    }
+}
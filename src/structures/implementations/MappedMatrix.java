@@ -0,0 +1,178 @@
+package structures.implementations;
+
+import structures.Matrix;
+import structures.Vector;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class of read-only matrices stored row-major as big-endian ints in a memory-mapped file.
+ * Nothing is read when the matrix is created, pages are loaded and cached by the operating system on access.
+ * A single mapping cannot exceed 2 GiB, so the file is mapped in chunks of whole rows
+ */
+public class MappedMatrix implements Matrix {
+    private final int rows;
+    private final int cols;
+    private final int rowsPerChunk;
+    private final IntBuffer[] chunks;
+
+    /**
+     * Matrix constructor, the channel may be closed afterwards, the mapping stays valid
+     * @param channel is a channel of the file with the matrix
+     * @param offset is a position of the first item in the file
+     * @param rows number of rows
+     * @param cols number of columns
+     * @throws IOException if the file cannot be mapped
+     */
+    public MappedMatrix(FileChannel channel, long offset, int rows, int cols) throws IOException {
+        if (rows <= 0 || cols <= 0 || (long) cols * Integer.BYTES > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Matrix of size " + rows + "x" + cols + " cannot be mapped.");
+        if (offset + (long) rows * cols * Integer.BYTES > channel.size())
+            throw new IllegalArgumentException("File is too short for a " + rows + "x" + cols + " matrix.");
+
+        this.rows = rows;
+        this.cols = cols;
+        this.rowsPerChunk = Integer.MAX_VALUE / (cols * Integer.BYTES);
+        this.chunks = new IntBuffer[(rows + rowsPerChunk - 1) / rowsPerChunk];
+
+        for (int k = 0; k < chunks.length; k++) {
+            int chunkRows = Math.min(rowsPerChunk, rows - k * rowsPerChunk);
+            long position = offset + (long) k * rowsPerChunk * cols * Integer.BYTES;
+            chunks[k] = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) chunkRows * cols * Integer.BYTES).asIntBuffer();
+        }
+    }
+
+    @Override
+    public Matrix plus(Matrix other) {
+        if (this.rows != other.getNumberOfRows() || this.cols != other.getNumberOfColumns())
+            throw new IllegalArgumentException();
+
+        Matrix result = new FlatMatrix(this.rows, this.cols);
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                result.setItem(i, j, getItem(i, j) + other.getItem(i, j));
+
+        return result;
+    }
+
+    @Override
+    public Matrix minus(Matrix other) {
+        if (this.rows != other.getNumberOfRows() || this.cols != other.getNumberOfColumns())
+            throw new IllegalArgumentException();
+
+        Matrix result = new FlatMatrix(this.rows, this.cols);
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                result.setItem(i, j, getItem(i, j) - other.getItem(i, j));
+
+        return result;
+    }
+
+    @Override
+    public List<Vector> getRows() {
+        List<Vector> rows = new ArrayList<>();
+
+        for (int i = 0; i < this.rows; i++)
+            rows.add(this.getRow(i));
+
+        return rows;
+    }
+
+    @Override
+    public List<Vector> getColumns() {
+        List<Vector> cols = new ArrayList<>();
+
+        for (int i = 0; i < this.cols; i++)
+            cols.add(this.getColumn(i));
+
+        return cols;
+    }
+
+    @Override
+    public int getItem(int row, int col) {
+        if (row >= this.rows || col >= this.cols || row < 0 || col < 0)
+            throw new IndexOutOfBoundsException();
+
+        return chunks[row / rowsPerChunk].get((row % rowsPerChunk) * cols + col);
+    }
+
+    @Override
+    public int getNumberOfRows() {
+        return this.rows;
+    }
+
+    @Override
+    public int getNumberOfColumns() {
+        return this.cols;
+    }
+
+    @Override
+    public Vector getRow(int row) {
+        return getRowView(row).buildClone();
+    }
+
+    @Override
+    public Vector getColumn(int col) {
+        return getColumnView(col).buildClone();
+    }
+
+    @Override
+    public Vector getRowView(int row) {
+        return new MatrixLineView(this, row, true);
+    }
+
+    @Override
+    public Vector getColumnView(int col) {
+        return new MatrixLineView(this, col, false);
+    }
+
+    @Override
+    public void setItem(int row, int col, int value) {
+        throw new UnsupportedOperationException("Mapped matrix is read-only.");
+    }
+
+    @Override
+    public void setRow(int row, Vector vector) {
+        throw new UnsupportedOperationException("Mapped matrix is read-only.");
+    }
+
+    @Override
+    public void setColumn(int col, Vector vector) {
+        throw new UnsupportedOperationException("Mapped matrix is read-only.");
+    }
+
+    @Override
+    public int[] getCoordsOfMostNegative() {
+        int[] coords = new int[2];
+
+        for (int i = 0; i < this.rows; i++)
+            for (int j = 0; j < this.cols; j++)
+                if (getItem(i, j) < getItem(coords[0], coords[1])) {
+                    coords[0] = i;
+                    coords[1] = j;
+                }
+
+        return coords;
+    }
+
+    /**
+     * Method for copying the matrix to the heap
+     * @return a FlatMatrix with the same items
+     */
+    @Override
+    public Matrix buildClone() {
+        FlatMatrix result = new FlatMatrix(this.rows, this.cols);
+        int[] values = result.getValues();
+
+        for (int k = 0; k < chunks.length; k++)
+            chunks[k].get(0, values, k * rowsPerChunk * cols, chunks[k].capacity());
+
+        return result;
+    }
+}
@@ -0,0 +1,138 @@
+package structures.implementations;
+
+import structures.Matrix;
+import structures.Vector;
+
+import java.util.Iterator;
+
+/**
+ * Class of read-only vectors viewing a row or a column of any matrix through getItem.
+ * Used by matrices whose storage is not a Java array
+ */
+public class MatrixLineView implements Vector {
+    private final Matrix matrix;
+    private final int index;
+    private final boolean row;
+    private final int length;
+
+    /**
+     * View constructor
+     * @param matrix is a matrix to view
+     * @param index is an index of the row or the column
+     * @param row whether a row (true) or a column (false) is viewed
+     */
+    public MatrixLineView(Matrix matrix, int index, boolean row) {
+        int lines = row ? matrix.getNumberOfRows() : matrix.getNumberOfColumns();
+        if (index < 0 || index >= lines)
+            throw new IndexOutOfBoundsException();
+
+        this.matrix = matrix;
+        this.index = index;
+        this.row = row;
+        this.length = row ? matrix.getNumberOfColumns() : matrix.getNumberOfRows();
+    }
+
+    @Override
+    public Vector plus(Vector other) {
+        if (this.length != other.getLength())
+            throw new IllegalArgumentException();
+
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, get(i) + other.get(i));
+
+        return result;
+    }
+
+    @Override
+    public Vector minus(Vector other) {
+        if (this.length != other.getLength())
+            throw new IllegalArgumentException();
+
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, get(i) - other.get(i));
+
+        return result;
+    }
+
+    @Override
+    public int get(int i) {
+        return row ? matrix.getItem(index, i) : matrix.getItem(i, index);
+    }
+
+    @Override
+    public void set(int i, int value) {
+        throw new UnsupportedOperationException("Vector view is read-only.");
+    }
+
+    @Override
+    public long getSum() {
+        long sum = 0;
+
+        for (int i = 0; i < length; i++)
+            sum += get(i);
+
+        return sum;
+    }
+
+    @Override
+    public int getLength() {
+        return this.length;
+    }
+
+    @Override
+    public int getMinValueIndex() {
+        int minIndex = 0;
+
+        for (int i = 1; i < length; i++)
+            if (get(i) < get(minIndex))
+                minIndex = i;
+
+        return minIndex;
+    }
+
+    @Override
+    public int getMaxValueIndex() {
+        int maxIndex = 0;
+
+        for (int i = 1; i < length; i++)
+            if (get(i) > get(maxIndex))
+                maxIndex = i;
+
+        return maxIndex;
+    }
+
+    /**
+     * Method for copying the viewed elements into a new independent vector
+     * @return a new ArrayVector
+     */
+    @Override
+    public Vector buildClone() {
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, get(i));
+
+        return result;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < length;
+            }
+
+            @Override
+            public Integer next() {
+                return get(position++);
+            }
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package structures.implementations;
+
+import structures.Vector;
+
+import java.util.Iterator;
+
+/**
+ * Class of vectors viewing a part of an existing array: element i is values[offset + i * stride].
+ * Nothing is copied, writes to a writable view go straight to the viewed array
+ */
+public class StridedVector implements Vector {
+    private final int[] values;
+    private final int offset;
+    private final int stride;
+    private final int length;
+    private final boolean checked;
+    private final boolean writable;
+
+    /**
+     * View constructor
+     * @param values is an array to view
+     * @param offset is a position of the first element in the array
+     * @param stride is a distance between two consecutive elements in the array
+     * @param length number of elements
+     * @param checked whether indices are checked against the length of the view
+     * @param writable whether set is allowed, read-only views throw UnsupportedOperationException
+     */
+    public StridedVector(int[] values, int offset, int stride, int length, boolean checked, boolean writable) {
+        if (length > 0 && (offset < 0 || offset + (long) (length - 1) * stride >= values.length))
+            throw new IndexOutOfBoundsException();
+
+        this.values = values;
+        this.offset = offset;
+        this.stride = stride;
+        this.length = length;
+        this.checked = checked;
+        this.writable = writable;
+    }
+
+    @Override
+    public Vector plus(Vector other) {
+        if (this.length != other.getLength())
+            throw new IllegalArgumentException();
+
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, this.values[offset + i * stride] + other.get(i));
+
+        return result;
+    }
+
+    @Override
+    public Vector minus(Vector other) {
+        if (this.length != other.getLength())
+            throw new IllegalArgumentException();
+
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, this.values[offset + i * stride] - other.get(i));
+
+        return result;
+    }
+
+    @Override
+    public int get(int index) {
+        if (checked && (index < 0 || index >= length))
+            throw new IndexOutOfBoundsException();
+
+        return values[offset + index * stride];
+    }
+
+    @Override
+    public void set(int index, int value) {
+        if (!writable)
+            throw new UnsupportedOperationException("Vector view is read-only.");
+
+        if (checked && (index < 0 || index >= length))
+            throw new IndexOutOfBoundsException();
+
+        values[offset + index * stride] = value;
+    }
+
+    @Override
+    public long getSum() {
+        long sum = 0;
+
+        for (int i = 0, position = offset; i < length; i++, position += stride)
+            sum += values[position];
+
+        return sum;
+    }
+
+    @Override
+    public int getLength() {
+        return this.length;
+    }
+
+    @Override
+    public int getMinValueIndex() {
+        int minIndex = 0;
+
+        for (int i = 1; i < length; i++)
+            if (values[offset + i * stride] < values[offset + minIndex * stride])
+                minIndex = i;
+
+        return minIndex;
+    }
+
+    @Override
+    public int getMaxValueIndex() {
+        int maxIndex = 0;
+
+        for (int i = 1; i < length; i++)
+            if (values[offset + i * stride] > values[offset + maxIndex * stride])
+                maxIndex = i;
+
+        return maxIndex;
+    }
+
+    /**
+     * Method for copying the viewed elements into a new independent vector
+     * @return a new ArrayVector
+     */
+    @Override
+    public Vector buildClone() {
+        Vector result = new ArrayVector(this.length);
+
+        for (int i = 0; i < this.length; i++)
+            result.set(i, this.values[offset + i * stride]);
+
+        return result;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < length;
+            }
+
+            @Override
+            public Integer next() {
+                return values[offset + index++ * stride];
+            }
+        };
+    }
+}
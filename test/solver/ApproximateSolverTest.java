@@ -0,0 +1,47 @@
+package solver;
+
+import org.junit.jupiter.api.Test;
+import structures.LongVector;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApproximateSolverTest {
+    @Test
+    void boundsEncloseTheOptimum() {
+        ApproximateSolver solver = new ApproximateSolver.Builder().deadline(Duration.ofSeconds(5)).targetGap(0.05).build();
+        for (Instances instance : Instances.seeded(6)) {
+            ApproximateSolution solution = solver.solve(instance.supply(), instance.demand(), CostModel.of(instance.costs));
+            long optimum = instance.optimum();
+
+            instance.assertFeasible(solution.getPlan());
+            assertEquals(solution.getPlan().getTotalCost(instance.costs), solution.getTotalCost(), instance.name);
+            assertTrue(solution.getTotalCost() >= optimum, instance.name);
+            assertTrue(!solution.hasLowerBound() || solution.getLowerBound() <= optimum, instance.name);
+        }
+    }
+
+    @Test
+    void zeroTargetGapGivesTheOptimum() {
+        ApproximateSolver solver = new ApproximateSolver.Builder().deadline(Duration.ofSeconds(30)).targetGap(0).build();
+        for (Instances instance : Instances.seeded(6)) {
+            ApproximateSolution solution = solver.solve(instance.supply(), instance.demand(), CostModel.of(instance.costs));
+
+            assertEquals(instance.optimum(), solution.getTotalCost(), instance.name);
+            assertTrue(solution.isOptimal(), instance.name);
+        }
+    }
+
+    @Test
+    void rejectsUnbalancedProblems() {
+        Instances instance = Instances.generate(4, 4, generator.Distribution.UNIFORM, 5);
+        LongVector supply = instance.supply();
+        supply.set(0, supply.get(0) + 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ApproximateSolver.Builder().build().solve(supply, instance.demand(), CostModel.of(instance.costs)));
+    }
+}
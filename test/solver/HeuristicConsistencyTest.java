@@ -0,0 +1,45 @@
+package solver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks that the parallel and incremental variants of the heuristics build exactly the plans of the plain ones
+ */
+class HeuristicConsistencyTest {
+    private static void assertSamePlans(Algorithm expected, Algorithm actual, String name) {
+        for (Instances instance : Instances.seeded(12)) {
+            Instances.assertSamePlan(
+                    expected.solve(instance.supply(), instance.demand(), instance.costs),
+                    actual.solve(instance.supply(), instance.demand(), instance.costs),
+                    name + " on " + instance.name);
+        }
+    }
+
+    @Test
+    void parallelVogelMatchesSequential() {
+        assertSamePlans(new VogelAlgorithm(), new VogelAlgorithm(ForkJoinPool.commonPool(), 1), "Vogel");
+    }
+
+    @Test
+    void parallelRusselMatchesSequential() {
+        assertSamePlans(new RusselAlgorithm(), new RusselAlgorithm(ForkJoinPool.commonPool(), 1), "Russel");
+    }
+
+    @Test
+    void incrementalVogelMatchesVogel() {
+        assertSamePlans(new VogelAlgorithm(), new IncrementalVogelAlgorithm(), "IncrementalVogel");
+    }
+
+    @Test
+    void incrementalVogelMatchesVogelOnCostModel() {
+        for (Instances instance : Instances.seeded(6)) {
+            CostModel model = CostModel.of(instance.costs);
+            Instances.assertSamePlan(
+                    new VogelAlgorithm().solve(instance.supply(), instance.demand(), model),
+                    new IncrementalVogelAlgorithm().solve(instance.supply(), instance.demand(), model),
+                    instance.name);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package solver;
+
+import generator.Distribution;
+import generator.InstanceGenerator;
+import structures.LongVector;
+import structures.Matrix;
+import structures.MatrixFactory;
+import structures.Plan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeded instances of every distribution shared by the cross-checks, with checks of the plans found for them
+ */
+final class Instances {
+    final String name;
+    final LongVector supply;
+    final LongVector demand;
+    final Matrix costs;
+
+    private Instances(String name, LongVector supply, LongVector demand, Matrix costs) {
+        this.name = name;
+        this.supply = supply;
+        this.demand = demand;
+        this.costs = costs;
+    }
+
+    static Instances generate(int rows, int cols, Distribution distribution, long seed) {
+        InstanceGenerator generator = new InstanceGenerator.Builder()
+                .setSize(rows, cols)
+                .setDistribution(distribution)
+                .setSeed(seed)
+                .build();
+
+        Matrix costs = MatrixFactory.createFlatMatrix(rows, cols);
+        int[] row = new int[cols];
+        for (int i = 0; i < rows; i++) {
+            generator.fillCostRow(i, row);
+            for (int j = 0; j < cols; j++) costs.setItem(i, j, row[j]);
+        }
+
+        String name = distribution + " " + rows + "x" + cols + " seed " + seed;
+        return new Instances(name, generator.getSupply(), generator.getDemand(), costs);
+    }
+
+    /**
+     * @param seeds is a number of seeds per distribution
+     * @return instances of every distribution with sizes from a single line up to 30 lines
+     */
+    static List<Instances> seeded(int seeds) {
+        List<Instances> instances = new ArrayList<>();
+        for (Distribution distribution : Distribution.values())
+            for (int seed = 1; seed <= seeds; seed++)
+                instances.add(generate(1 + seed * 7 % 30, 1 + seed * 11 % 30, distribution, seed));
+        return instances;
+    }
+
+    LongVector supply() {
+        return supply.buildClone();
+    }
+
+    LongVector demand() {
+        return demand.buildClone();
+    }
+
+    /**
+     * @return the optimal total cost found by the network simplex over all cells
+     */
+    long optimum() {
+        NetworkSimplex simplex = new NetworkSimplex(costs.getNumberOfRows(), costs.getNumberOfColumns());
+        for (int i = 0; i < costs.getNumberOfRows(); i++)
+            for (int j = 0; j < costs.getNumberOfColumns(); j++)
+                simplex.addArc(i, j, costs.getItem(i, j));
+        return simplex.solve(supply(), demand()).getTotalCost(costs);
+    }
+
+    /**
+     * Method for checking that a plan ships every supply and meets every demand with non-negative amounts
+     */
+    void assertFeasible(Plan plan) {
+        long[] shipped = new long[supply.getLength()];
+        long[] received = new long[demand.getLength()];
+        for (int k = 0; k < plan.getSize(); k++) {
+            assertTrue(plan.getAmount(k) >= 0, name);
+            shipped[plan.getRow(k)] += plan.getAmount(k);
+            received[plan.getColumn(k)] += plan.getAmount(k);
+        }
+
+        for (int i = 0; i < shipped.length; i++) assertEquals(supply.get(i), shipped[i], name);
+        for (int j = 0; j < received.length; j++) assertEquals(demand.get(j), received[j], name);
+    }
+
+    /**
+     * Method for checking that two plans ship the same amounts in every cell
+     */
+    static void assertSamePlan(Plan expected, Plan actual, String message) {
+        LongVector expectedCells = expected.toVector();
+        LongVector actualCells = actual.toVector();
+        assertEquals(expectedCells.getLength(), actualCells.getLength(), message);
+        for (int k = 0; k < expectedCells.getLength(); k++)
+            assertEquals(expectedCells.get(k), actualCells.get(k), message + ", cell " + k);
+    }
+}
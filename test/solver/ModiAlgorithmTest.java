@@ -0,0 +1,50 @@
+package solver;
+
+import org.junit.jupiter.api.Test;
+import structures.Plan;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ModiAlgorithmTest {
+    private static void assertOptimal(Supplier<Algorithm> initial, String name) {
+        for (Instances instance : Instances.seeded(12)) {
+            Plan plan = new ModiAlgorithm(initial.get()).solve(instance.supply(), instance.demand(), instance.costs);
+
+            instance.assertFeasible(plan);
+            assertEquals(instance.optimum(), plan.getTotalCost(instance.costs), name + " on " + instance.name);
+        }
+    }
+
+    @Test
+    void matchesNetworkSimplexFromNorthWest() {
+        assertOptimal(NorthWest::new, "NorthWest");
+    }
+
+    @Test
+    void matchesNetworkSimplexFromVogel() {
+        assertOptimal(VogelAlgorithm::new, "Vogel");
+    }
+
+    @Test
+    void matchesNetworkSimplexFromRussel() {
+        assertOptimal(RusselAlgorithm::new, "Russel");
+    }
+
+    @Test
+    void matchesNetworkSimplexFromLeastCost() {
+        assertOptimal(LeastCostAlgorithm::new, "LeastCost");
+    }
+
+    @Test
+    void matchesNetworkSimplexOnCostModel() {
+        for (Instances instance : Instances.seeded(6)) {
+            Plan plan = new ModiAlgorithm(new IncrementalVogelAlgorithm())
+                    .solve(instance.supply(), instance.demand(), CostModel.of(instance.costs));
+
+            instance.assertFeasible(plan);
+            assertEquals(instance.optimum(), plan.getTotalCost(instance.costs), instance.name);
+        }
+    }
+}
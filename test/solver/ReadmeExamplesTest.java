@@ -0,0 +1,89 @@
+package solver;
+
+import org.junit.jupiter.api.Test;
+import structures.LongVector;
+import structures.Matrix;
+import structures.MatrixFactory;
+import structures.Plan;
+import structures.VectorFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests 1-3 of the README with the plans and total costs listed there
+ */
+class ReadmeExamplesTest {
+    private static LongVector vector(long... values) {
+        LongVector vector = VectorFactory.createEmptyLongVector(values.length);
+        for (int i = 0; i < values.length; i++) vector.set(i, values[i]);
+        return vector;
+    }
+
+    private static Matrix matrix(int[][] values) {
+        Matrix matrix = MatrixFactory.createFlatMatrix(values.length, values[0].length);
+        for (int i = 0; i < values.length; i++)
+            for (int j = 0; j < values[i].length; j++) matrix.setItem(i, j, values[i][j]);
+        return matrix;
+    }
+
+    private static TransportationProblem problem(long[] supply, int[][] costs, long[] demand, Algorithm algorithm) {
+        return new TransportationProblem.Builder()
+                .setVectorSupply(vector(supply))
+                .setMatrixCosts(matrix(costs))
+                .setVectorDemand(vector(demand))
+                .balanceWithDummy(0)
+                .algorithm(algorithm)
+                .build();
+    }
+
+    private static void assertPlan(long[] supply, int[][] costs, long[] demand, Algorithm algorithm, long[] cells, long totalCost) {
+        TransportationProblem problem = problem(supply, costs, demand, algorithm);
+        Plan plan = problem.solve();
+
+        LongVector actual = plan.toVector();
+        assertEquals(cells.length, actual.getLength());
+        for (int k = 0; k < cells.length; k++) assertEquals(cells[k], actual.get(k), "cell " + k);
+        assertEquals(totalCost, problem.getTotalCost(plan));
+    }
+
+    private static void assertOptimum(long[] supply, int[][] costs, long[] demand, long totalCost) {
+        TransportationProblem problem = problem(supply, costs, demand, new ModiAlgorithm(new NorthWest()));
+        assertEquals(totalCost, problem.getTotalCost(problem.solve()));
+    }
+
+    private static final long[] supply1 = {160, 140, 170};
+    private static final int[][] costs1 = {{7, 8, 1, 2}, {4, 5, 9, 8}, {9, 2, 3, 6}};
+    private static final long[] demand1 = {120, 50, 190, 110};
+
+    @Test
+    void test1() {
+        assertPlan(supply1, costs1, demand1, new NorthWest(), new long[]{120, 40, 0, 0, 0, 10, 130, 0, 0, 0, 60, 110}, 3220);
+        assertPlan(supply1, costs1, demand1, new VogelAlgorithm(), new long[]{0, 0, 50, 110, 120, 20, 0, 0, 0, 30, 140, 0}, 1330);
+        assertPlan(supply1, costs1, demand1, new RusselAlgorithm(), new long[]{0, 0, 160, 0, 120, 0, 0, 20, 0, 50, 30, 90}, 1530);
+        assertOptimum(supply1, costs1, demand1, 1330);
+    }
+
+    private static final long[] supply2 = {300, 400, 500};
+    private static final int[][] costs2 = {{3, 1, 7, 4}, {2, 6, 5, 9}, {8, 3, 3, 2}};
+    private static final long[] demand2 = {250, 350, 400, 200};
+
+    @Test
+    void test2() {
+        assertPlan(supply2, costs2, demand2, new NorthWest(), new long[]{250, 50, 0, 0, 0, 300, 100, 0, 0, 0, 300, 200}, 4400);
+        assertPlan(supply2, costs2, demand2, new VogelAlgorithm(), new long[]{0, 300, 0, 0, 250, 0, 150, 0, 0, 50, 250, 200}, 2850);
+        assertPlan(supply2, costs2, demand2, new RusselAlgorithm(), new long[]{0, 300, 0, 0, 250, 50, 100, 0, 0, 0, 300, 200}, 2900);
+        assertOptimum(supply2, costs2, demand2, 2850);
+    }
+
+    private static final long[] supply3 = {100, 230, 170};
+    private static final int[][] costs3 = {{2, 1, 4, 5}, {8, 2, 4, 7}, {3, 3, 6, 1}};
+    private static final long[] demand3 = {80, 120, 100, 150};
+
+    @Test
+    void test3() {
+        assertPlan(supply3, costs3, demand3, new NorthWest(), new long[]{80, 20, 0, 0, 0, 100, 100, 30, 0, 0, 0, 120}, 1110);
+        assertPlan(supply3, costs3, demand3, new VogelAlgorithm(), new long[]{80, 20, 0, 0, 0, 100, 100, 0, 0, 0, 0, 150}, 930);
+        assertPlan(supply3, costs3, demand3, new RusselAlgorithm(), new long[]{80, 0, 0, 0, 0, 120, 100, 0, 0, 0, 0, 150}, 950);
+        assertOptimum(supply3, costs3, demand3, 930);
+    }
+}
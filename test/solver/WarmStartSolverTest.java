@@ -0,0 +1,72 @@
+package solver;
+
+import org.junit.jupiter.api.Test;
+import structures.Plan;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WarmStartSolverTest {
+    private static void assertOptimal(Instances instance, Plan plan, String change) {
+        instance.assertFeasible(plan);
+        assertEquals(instance.optimum(), plan.getTotalCost(instance.costs), change + " on " + instance.name);
+    }
+
+    @Test
+    void solveIsOptimal() {
+        for (Instances instance : Instances.seeded(8))
+            assertOptimal(instance, new WarmStartSolver(instance.supply(), instance.demand(), instance.costs).solve(), "solve");
+    }
+
+    @Test
+    void resolveAfterCostChangesMatchesColdSolve() {
+        Random random = new Random(7);
+        for (Instances instance : Instances.seeded(8)) {
+            WarmStartSolver solver = new WarmStartSolver(instance.supply(), instance.demand(), instance.costs.buildClone());
+            solver.solve();
+
+            for (int change = 0; change < 5; change++) {
+                int row = random.nextInt(instance.supply.getLength());
+                int col = random.nextInt(instance.demand.getLength());
+                int cost = random.nextInt(200);
+                instance.costs.setItem(row, col, cost);
+                solver.changeCost(row, col, cost);
+
+                assertOptimal(instance, solver.resolve(), "cost change " + change);
+            }
+        }
+    }
+
+    @Test
+    void resolveAfterQuantityChangesMatchesColdSolve() {
+        Random random = new Random(11);
+        for (Instances instance : Instances.seeded(8)) {
+            WarmStartSolver solver = new WarmStartSolver(instance.supply(), instance.demand(), instance.costs);
+            solver.solve();
+
+            for (int change = 0; change < 5; change++) {
+                int row = random.nextInt(instance.supply.getLength());
+                int col = random.nextInt(instance.demand.getLength());
+                long delta = random.nextInt(50) - Math.min(25, Math.min(instance.supply.get(row), instance.demand.get(col)));
+                instance.supply.set(row, instance.supply.get(row) + delta);
+                instance.demand.set(col, instance.demand.get(col) + delta);
+                solver.changeSupply(row, delta);
+                solver.changeDemand(col, delta);
+
+                assertOptimal(instance, solver.resolve(), "quantity change " + change);
+            }
+        }
+    }
+
+    @Test
+    void resolveRejectsUnbalancedChanges() {
+        Instances instance = Instances.generate(5, 6, generator.Distribution.UNIFORM, 3);
+        WarmStartSolver solver = new WarmStartSolver(instance.supply(), instance.demand(), instance.costs);
+        solver.solve();
+        solver.changeSupply(0, 1);
+
+        assertThrows(IllegalStateException.class, solver::resolve);
+    }
+}